@@ -0,0 +1,40 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.Board;
+import com.comp2042.BoardState;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+public enum FillLevel {
+    EMPTY(0), HALF(7), NEAR_TOP(11);
+
+    //Bricks spawn at row 10, so 15 rows of a 25 row board are playable
+    private final int filledRows;
+
+    FillLevel(int filledRows) {
+        this.filledRows = filledRows;
+    }
+
+    public int[][] createMatrix(int width, int height, long seed) {
+        int[][] matrix = new int[width][height];
+        Random random = new Random(seed);
+        for (int i = matrix.length - filledRows; i < matrix.length; i++) {
+            int hole = random.nextInt(matrix[i].length);
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (j != hole && random.nextInt(10) < 8) {
+                    matrix[i][j] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    //The board's current state with the rows replaced by createMatrix, ready for Board.readState
+    public ByteBuffer createState(Board board, int width, int height, long seed) {
+        ByteBuffer buffer = ByteBuffer.allocate(board.getStateSize());
+        board.writeState(buffer);
+        BoardState.writeRows(board, buffer, createMatrix(width, height, seed));
+        return buffer.clear();
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.save.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateBenchmark {
+
+    @Param({"SIMPLE", "BITBOARD", "RING", "COMPACT"})
+    public BoardType boardType;
+
+    private GameEngine engine;
+    private GameEngine fork;
+    private GameState state;
+
+    @Setup
+    public void setUp() {
+        engine = new GameEngine(boardType.create(25, 10, new SeededBrickGenerator(42)));
+        fork = new GameEngine(boardType.create(25, 10, new SeededBrickGenerator(42)));
+        //A few locked pieces so the rows are not all empty
+        for (int i = 0; i < 12 && !engine.isGameOver(); i++) {
+            for (int j = 0; j < i % 5; j++) {
+                engine.step(i % 2 == 0 ? EventType.LEFT : EventType.RIGHT);
+            }
+            engine.step(EventType.HARD_DROP);
+        }
+        state = new GameState(engine);
+    }
+
+    @Benchmark
+    public GameState capture() {
+        state.capture(engine);
+        return state;
+    }
+
+    @Benchmark
+    public GameEngine fork() {
+        state.capture(engine);
+        state.restore(fork);
+        return fork;
+    }
+}
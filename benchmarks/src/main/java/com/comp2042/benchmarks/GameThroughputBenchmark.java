@@ -0,0 +1,50 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.BoardType;
+import com.comp2042.GameEngine;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameThroughputBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"SIMPLE", "BITBOARD", "RING"})
+    public BoardType boardType;
+
+    private SeededBrickGenerator generator;
+    private GameEngine engine;
+    private ScriptedPlayer player;
+
+    @Setup
+    public void setUp() {
+        generator = new SeededBrickGenerator(SEED);
+        engine = new GameEngine(boardType.create(25, 10, generator));
+        player = new ScriptedPlayer(SEED);
+    }
+
+    //Every invocation plays the same game, so each board type does the same work on every run
+    @Benchmark
+    public int wholeGame() {
+        generator.reset(SEED);
+        return player.playGame(engine);
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.ClearRow;
+import com.comp2042.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public FillLevel fillLevel;
+
+    private int[][] matrix;
+    private int[][] fullRowsMatrix;
+    private int[][] brick;
+    private int brickX;
+    private int brickY;
+
+    @Setup
+    public void setUp() {
+        matrix = fillLevel.createMatrix(25, 10, 42);
+        fullRowsMatrix = MatrixOperations.copy(matrix);
+        for (int i = fullRowsMatrix.length - 2; i < fullRowsMatrix.length; i++) {
+            for (int j = 0; j < fullRowsMatrix[i].length; j++) {
+                fullRowsMatrix[i][j] = 1;
+            }
+        }
+        brick = new int[][]{
+                {0, 0, 0, 0},
+                {6, 6, 6, 0},
+                {0, 6, 0, 0},
+                {0, 0, 0, 0}
+        };
+        brickX = 4;
+        brickY = 10;
+    }
+
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(matrix, brick, brickX, brickY);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, brick, brickX, brickY);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingNoLines() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingTwoLines() {
+        return MatrixOperations.checkRemoving(fullRowsMatrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
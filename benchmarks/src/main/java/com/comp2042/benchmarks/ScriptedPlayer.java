@@ -0,0 +1,42 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+
+import java.util.Random;
+
+final class ScriptedPlayer {
+
+    private final long seed;
+    private final Random random;
+
+    ScriptedPlayer(long seed) {
+        this.seed = seed;
+        random = new Random(seed);
+    }
+
+    //Starts from the seed again, so the same bricks get the same moves on every call
+    int playGame(GameEngine engine) {
+        random.setSeed(seed);
+        engine.newGame();
+        while (!engine.isGameOver()) {
+            playPiece(engine);
+        }
+        return engine.getScore();
+    }
+
+    private void playPiece(GameEngine engine) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            engine.step(EventType.ROTATE);
+        }
+        int shift = random.nextInt(9) - 4;
+        EventType direction = shift < 0 ? EventType.LEFT : EventType.RIGHT;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            engine.step(direction);
+        }
+        while (engine.step(EventType.DOWN)) {
+            //soft drop until the brick locks
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.ClearRow;
+import com.comp2042.SimpleBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    @State(Scope.Thread)
+    public static class BoardState {
+
+        @Param({"EMPTY", "HALF", "NEAR_TOP"})
+        public FillLevel fillLevel;
+
+        SimpleBoard board;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            board = new SimpleBoard(25, 10);
+            board.newGame();
+            board.readState(fillLevel.createState(board, 25, 10, 42));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LockState {
+
+        @Param({"EMPTY", "HALF", "NEAR_TOP"})
+        public FillLevel fillLevel;
+
+        SimpleBoard board;
+        ByteBuffer filledState;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            board = new SimpleBoard(25, 10);
+            board.newGame();
+            filledState = fillLevel.createState(board, 25, 10, 42);
+        }
+
+        //Locking changes the board, so every invocation starts again from the same fill level with the brick landed
+        @Setup(Level.Invocation)
+        public void landBrick() {
+            board.readState(filledState.clear());
+            while (board.moveBrickDown()) {
+                //drop to the surface
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean moveLeftRight(BoardState state) {
+        return state.board.moveBrickLeft() & state.board.moveBrickRight();
+    }
+
+    @Benchmark
+    public boolean rotate(BoardState state) {
+        return state.board.rotateLeftBrick();
+    }
+
+    @Benchmark
+    public int spawnAndSoftDrop(BoardState state) {
+        int rows = 0;
+        state.board.createNewBrick();
+        while (state.board.moveBrickDown()) {
+            rows++;
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public boolean lock(LockState state) {
+        state.board.mergeBrickToBackground();
+        ClearRow clearRow = state.board.clearRows();
+        return state.board.createNewBrick() && clearRow.getLinesRemoved() >= 0;
+    }
+}
@@ -0,0 +1,341 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.Bricks;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.metrics.GameMetrics;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class BitBoard implements Board {
+
+    private static final int COLOR_BITS = 4;
+    private static final int CELLS_PER_COLOR_WORD = Long.SIZE / COLOR_BITS;
+    private static final long COLOR_MASK = (1L << COLOR_BITS) - 1;
+
+    private final int width;
+    private final int height;
+    private final long fullRow;
+    private final int colorStride;
+    private final long[] rows;
+    private final long[] colors;
+    private final int[][] boardMatrix;
+    private final ColumnHeights columnHeights;
+    private final RotationSystem rotationSystem;
+    private boolean matrixDirty;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private BrickMasks currentMasks;
+    private int currentRotation;
+    private int currentX;
+    private int currentY;
+    private final Score score;
+
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public BitBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(width, height, brickGenerator, RotationSystem.CLASSIC);
+    }
+
+    public BitBoard(int width, int height, BrickGenerator brickGenerator, RotationSystem rotationSystem) {
+        if (height > Long.SIZE) {
+            throw new IllegalArgumentException("BitBoard supports at most " + Long.SIZE + " columns");
+        }
+        this.width = width;
+        this.height = height;
+        fullRow = height == Long.SIZE ? -1L : (1L << height) - 1;
+        colorStride = (height + CELLS_PER_COLOR_WORD - 1) / CELLS_PER_COLOR_WORD;
+        rows = new long[width];
+        colors = new long[width * colorStride];
+        boardMatrix = new int[width][height];
+        columnHeights = new ColumnHeights(width, height);
+        this.rotationSystem = rotationSystem;
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return moveBrick(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return moveBrick(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return moveBrick(1, 0);
+    }
+
+    private boolean moveBrick(int dx, int dy) {
+        if (intersects(currentMasks.getRowMasks(currentRotation), currentX + dx, currentY + dy)) {
+            return false;
+        }
+        currentX += dx;
+        currentY += dy;
+        return true;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int landingY = getLandingY();
+        int rows = landingY - currentY;
+        currentY = landingY;
+        return rows;
+    }
+
+    private int getLandingY() {
+        int landingY = columnHeights.landingY(currentMasks.getBottomProfile(currentRotation), currentX, currentY);
+        if (landingY >= 0) {
+            return landingY;
+        }
+        long[] shape = currentMasks.getRowMasks(currentRotation);
+        landingY = currentY;
+        while (!intersects(shape, currentX, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateBrick((currentRotation + 1) % currentMasks.getRotationCount(), RotationSystem.ROTATE_LEFT);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        int count = currentMasks.getRotationCount();
+        return rotateBrick((currentRotation + count - 1) % count, RotationSystem.ROTATE_RIGHT);
+    }
+
+    //Every kick is tested against the cached row masks of the rotated shape
+    private boolean rotateBrick(int nextRotation, int direction) {
+        long[] shape = currentMasks.getRowMasks(nextRotation);
+        int[] kicks = currentMasks.getKicks(rotationSystem, currentRotation, direction);
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!intersects(shape, currentX + kicks[i], currentY + kicks[i + 1])) {
+                currentRotation = nextRotation;
+                brickRotator.setCurrentShape(nextRotation);
+                currentX += kicks[i];
+                currentY += kicks[i + 1];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentMasks = BrickMasks.of(currentBrick);
+        currentRotation = 0;
+        currentX = 4;
+        currentY = 10;
+        return intersects(currentMasks.getRowMasks(currentRotation), currentX, currentY);
+    }
+
+    private boolean intersects(long[] shape, int x, int y) {
+        for (int i = 0; i < shape.length; i++) {
+            if (shape[i] != 0) {
+                int targetY = y + i;
+                if (targetY < 0 || targetY >= width) {
+                    return true;
+                }
+                long placed = BrickMasks.place(shape[i], x, fullRow);
+                if (placed == 0 || (placed & rows[targetY]) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        if (matrixDirty) {
+            for (int i = 0; i < width; i++) {
+                for (int j = 0; j < height; j++) {
+                    boardMatrix[i][j] = getColor(i, j);
+                }
+            }
+            matrixDirty = false;
+        }
+        return boardMatrix;
+    }
+
+    private int getColor(int row, int column) {
+        long word = colors[row * colorStride + column / CELLS_PER_COLOR_WORD];
+        return (int) ((word >>> ((column % CELLS_PER_COLOR_WORD) * COLOR_BITS)) & COLOR_MASK);
+    }
+
+    //Lowest bit of every non zero cell of a color word
+    private static long filledCells(long word) {
+        return (word | (word >>> 1) | (word >>> 2) | (word >>> 3)) & 0x1111111111111111L;
+    }
+
+    private void setColor(int row, int column, int color) {
+        int index = row * colorStride + column / CELLS_PER_COLOR_WORD;
+        int shift = (column % CELLS_PER_COLOR_WORD) * COLOR_BITS;
+        colors[index] = (colors[index] & ~(COLOR_MASK << shift)) | ((color & COLOR_MASK) << shift);
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, brickGenerator.getNextBrick().getShape(0), getLandingY());
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return currentRotation;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        long[] shape = currentMasks.getRowMasks(currentRotation);
+        int color = currentMasks.getColor(currentRotation);
+        for (int i = 0; i < shape.length; i++) {
+            if (shape[i] != 0) {
+                int targetY = currentY + i;
+                long placed = BrickMasks.place(shape[i], currentX, fullRow);
+                rows[targetY] |= placed;
+                while (placed != 0) {
+                    int column = Long.numberOfTrailingZeros(placed);
+                    setColor(targetY, column, color);
+                    columnHeights.place(targetY, column);
+                    placed &= placed - 1;
+                }
+            }
+        }
+        matrixDirty = true;
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        long start = GameMetrics.start();
+        int removed = 0;
+        for (int i = width - 1; i >= 0; i--) {
+            if (rows[i] == fullRow) {
+                removed++;
+            } else if (removed > 0) {
+                rows[i + removed] = rows[i];
+                System.arraycopy(colors, i * colorStride, colors, (i + removed) * colorStride, colorStride);
+            }
+        }
+        if (removed > 0) {
+            Arrays.fill(rows, 0, removed, 0L);
+            Arrays.fill(colors, 0, removed * colorStride, 0L);
+            columnHeights.recompute(rows);
+            matrixDirty = true;
+        }
+        //The matrix is only rebuilt when someone asks for it
+        ClearRow clearRow = new ClearRow(removed, null, 50 * removed * removed);
+        GameMetrics.end(GameMetrics.Metric.CLEAR_ROWS, start);
+        return clearRow;
+    }
+
+    @Override
+    public boolean addGarbage(int lines, int holeColumn) {
+        lines = Math.min(lines, width);
+        if (lines <= 0) {
+            return false;
+        }
+        boolean toppedOut = false;
+        for (int i = 0; i < lines; i++) {
+            toppedOut |= rows[i] != 0;
+        }
+        System.arraycopy(rows, lines, rows, 0, width - lines);
+        System.arraycopy(colors, lines * colorStride, colors, 0, (width - lines) * colorStride);
+        long garbageRow = fullRow & ~(1L << holeColumn);
+        for (int i = width - lines; i < width; i++) {
+            rows[i] = garbageRow;
+            for (int j = 0; j < height; j++) {
+                setColor(i, j, j == holeColumn ? 0 : GARBAGE_COLOR);
+            }
+        }
+        columnHeights.recompute(rows);
+        matrixDirty = true;
+        return toppedOut;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(rows, 0L);
+        Arrays.fill(colors, 0L);
+        columnHeights.reset();
+        matrixDirty = true;
+        score.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    @Override
+    public int getStateSize() {
+        return BoardState.size(width, height, brickGenerator);
+    }
+
+    //The color words already are the rows of the saved layout
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        brickGenerator.writeState(buffer);
+        for (long word : colors) {
+            buffer.putLong(word);
+        }
+        BoardState.writeBrick(buffer, brickRotator.getBrick(), currentRotation, currentX, currentY, score);
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        brickGenerator.readState(buffer);
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = buffer.getLong();
+        }
+        for (int i = 0; i < width; i++) {
+            long row = 0;
+            for (int k = 0; k < colorStride; k++) {
+                long filled = filledCells(colors[i * colorStride + k]);
+                while (filled != 0) {
+                    row |= 1L << (k * CELLS_PER_COLOR_WORD + Long.numberOfTrailingZeros(filled) / COLOR_BITS);
+                    filled &= filled - 1;
+                }
+            }
+            rows[i] = row;
+        }
+        columnHeights.recompute(rows);
+        matrixDirty = true;
+        Brick brick = Bricks.get(buffer.get());
+        brickRotator.setBrick(brick);
+        currentMasks = BrickMasks.of(brick);
+        currentRotation = buffer.get();
+        brickRotator.setCurrentShape(currentRotation);
+        currentX = buffer.get();
+        currentY = buffer.get();
+        BoardState.readScore(buffer, score);
+    }
+
+    @Override
+    public void checkState(ByteBuffer buffer, int offset) {
+        BoardState.check(buffer, offset, width, height, brickGenerator);
+    }
+}
@@ -1,26 +1,61 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.Brick;
+
+import java.nio.ByteBuffer;
+
 public interface Board {
 
+    //Cell value of garbage rows, drawn apart from the seven brick colors
+    int GARBAGE_COLOR = 8;
+
     boolean moveBrickDown();
 
     boolean moveBrickLeft();
 
     boolean moveBrickRight();
 
+    //Moves the brick straight down to where it would land and returns how many rows it fell
+    int hardDropBrick();
+
     boolean rotateLeftBrick();
 
+    boolean rotateRightBrick();
+
     boolean createNewBrick();
 
     int[][] getBoardMatrix();
 
     ViewData getViewData();
 
+    Brick getCurrentBrick();
+
+    int getCurrentRotation();
+
     void mergeBrickToBackground();
 
     ClearRow clearRows();
 
+    //Pushes lines rows in from the bottom, filled except at holeColumn, and returns true when rows holding cells
+    //were pushed out of the top. Meant for between a lock and the next spawn, the falling brick is not moved.
+    boolean addGarbage(int lines, int holeColumn);
+
     Score getScore();
 
     void newGame();
+
+    RotationSystem getRotationSystem();
+
+    //Bytes written by writeState, fixed for the board size and generator settings
+    int getStateSize();
+
+    //Cells, falling brick, score and generator state in the layout of BoardState, the same for every board type
+    void writeState(ByteBuffer buffer);
+
+    //Restores a state written by a board of the same size and generator settings into the existing storage
+    void readState(ByteBuffer buffer);
+
+    //Throws IllegalArgumentException when the state at offset would not restore into this board, e.g. a corrupt
+    //save. Only reads at absolute positions, so neither the buffer nor the board changes.
+    void checkState(ByteBuffer buffer, int offset);
 }
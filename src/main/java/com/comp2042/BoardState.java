@@ -0,0 +1,133 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.Bricks;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+//Board state layout shared by every Board, so a state saved from one board type restores into any other of the
+//same size: the generator state first, so a generator with other settings rejects it before anything changed,
+//then each row as ceil(columns / 16) longs with 4 bits per cell, the brick index, rotation, x and y as bytes and
+//the score as an int.
+public final class BoardState {
+
+    static final int CELL_BITS = 4;
+    static final int CELLS_PER_WORD = Long.SIZE / CELL_BITS;
+    static final long CELL_MASK = (1L << CELL_BITS) - 1;
+    //Brick index, rotation, x, y and the score
+    static final int BRICK_SIZE = 4 + Integer.BYTES;
+
+    private BoardState() {
+
+    }
+
+    static int wordsPerRow(int columns) {
+        return (columns + CELLS_PER_WORD - 1) / CELLS_PER_WORD;
+    }
+
+    static int rowsSize(int rows, int columns) {
+        return rows * wordsPerRow(columns) * Long.BYTES;
+    }
+
+    static int size(int rows, int columns, BrickGenerator brickGenerator) {
+        return rowsSize(rows, columns) + BRICK_SIZE + brickGenerator.getStateSize();
+    }
+
+    static void writeRow(ByteBuffer buffer, int[] row) {
+        for (int start = 0; start < row.length; start += CELLS_PER_WORD) {
+            long word = 0;
+            for (int j = Math.min(row.length, start + CELLS_PER_WORD) - 1; j >= start; j--) {
+                word = (word << CELL_BITS) | (row[j] & CELL_MASK);
+            }
+            buffer.putLong(word);
+        }
+    }
+
+    //Overwrites the rows of a state that board wrote with writeState, so readState starts the board from matrix
+    public static void writeRows(Board board, ByteBuffer state, int[][] matrix) {
+        ByteBuffer rows = state.duplicate();
+        rows.position(board.getStateSize() - BRICK_SIZE - rowsSize(matrix.length, matrix[0].length));
+        for (int[] row : matrix) {
+            writeRow(rows, row);
+        }
+    }
+
+    static void writeEmptyRow(ByteBuffer buffer, int columns) {
+        for (int i = wordsPerRow(columns); i > 0; i--) {
+            buffer.putLong(0L);
+        }
+    }
+
+    //Fills row from the buffer and returns how many of its cells are filled
+    static int readRow(ByteBuffer buffer, int[] row) {
+        int filled = 0;
+        for (int start = 0; start < row.length; start += CELLS_PER_WORD) {
+            long word = buffer.getLong();
+            int end = Math.min(row.length, start + CELLS_PER_WORD);
+            if (word == 0) {
+                Arrays.fill(row, start, end, 0);
+                continue;
+            }
+            for (int j = start; j < end; j++) {
+                int cell = (int) ((word >>> ((j - start) * CELL_BITS)) & CELL_MASK);
+                row[j] = cell;
+                if (cell != 0) {
+                    filled++;
+                }
+            }
+        }
+        return filled;
+    }
+
+    //Checks the generator state, that every cell holds a known color and that the falling brick is a known brick
+    //in a known rotation lying on the board. Cells past the last column must be empty, since some boards read the
+    //words as they are.
+    static void check(ByteBuffer buffer, int offset, int rows, int columns, BrickGenerator brickGenerator) {
+        if (offset < 0 || buffer.limit() - offset < size(rows, columns, brickGenerator)) {
+            throw new IllegalArgumentException("Saved board is truncated");
+        }
+        brickGenerator.checkState(buffer, offset);
+        int position = offset + brickGenerator.getStateSize();
+        for (int i = 0; i < rows; i++) {
+            for (int start = 0; start < columns; start += CELLS_PER_WORD) {
+                long word = buffer.getLong(position);
+                position += Long.BYTES;
+                for (int j = 0; j < CELLS_PER_WORD; j++) {
+                    long cell = (word >>> (j * CELL_BITS)) & CELL_MASK;
+                    if (cell > Board.GARBAGE_COLOR || (cell != 0 && start + j >= columns)) {
+                        throw new IllegalArgumentException("Saved row " + i + " holds an unknown cell");
+                    }
+                }
+            }
+        }
+        Brick brick = Bricks.get(Bricks.checkIndex(buffer.get(position)));
+        int rotation = buffer.get(position + 1);
+        if (rotation < 0 || rotation >= brick.getRotationCount()) {
+            throw new IllegalArgumentException("Saved brick has no rotation " + rotation);
+        }
+        int x = buffer.get(position + 2);
+        int y = buffer.get(position + 3);
+        BrickShape shape = brick.getShape(rotation);
+        for (int i = 0; i < shape.getHeight(); i++) {
+            for (int j = 0; j < shape.getWidth(); j++) {
+                if (shape.getCell(i, j) != 0 && (y + i < 0 || y + i >= rows || x + j < 0 || x + j >= columns)) {
+                    throw new IllegalArgumentException("Saved brick is off the board");
+                }
+            }
+        }
+    }
+
+    static void writeBrick(ByteBuffer buffer, Brick brick, int rotation, int x, int y, Score score) {
+        buffer.put((byte) Bricks.indexOf(brick)).put((byte) rotation).put((byte) x).put((byte) y)
+                .putInt(score.getValue());
+    }
+
+    //The brick fields are read by the board itself, this reads the score that follows them
+    static void readScore(ByteBuffer buffer, Score score) {
+        score.reset();
+        score.add(buffer.getInt());
+    }
+}
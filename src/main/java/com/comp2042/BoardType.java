@@ -0,0 +1,36 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Locale;
+
+public enum BoardType {
+    SIMPLE, BITBOARD, RING, COMPACT;
+
+    public Board create(int width, int height) {
+        return create(width, height, new RandomBrickGenerator());
+    }
+
+    public Board create(int width, int height, BrickGenerator brickGenerator) {
+        return create(width, height, brickGenerator, RotationSystem.CLASSIC);
+    }
+
+    public Board create(int width, int height, BrickGenerator brickGenerator, RotationSystem rotationSystem) {
+        switch (this) {
+            case BITBOARD:
+                return new BitBoard(width, height, brickGenerator, rotationSystem);
+            case RING:
+                return new RingBoard(width, height, brickGenerator, rotationSystem);
+            case COMPACT:
+                return new CompactBoard(width, height, brickGenerator, rotationSystem);
+            case SIMPLE:
+            default:
+                return new SimpleBoard(width, height, brickGenerator, rotationSystem);
+        }
+    }
+
+    public static BoardType fromSystemProperty() {
+        return valueOf(System.getProperty("tetris.board", SIMPLE.name()).toUpperCase(Locale.ROOT));
+    }
+}
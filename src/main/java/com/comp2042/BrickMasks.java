@@ -0,0 +1,96 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class BrickMasks {
+
+    private static final Map<Class<?>, BrickMasks> CACHE = new ConcurrentHashMap<>();
+
+    private final long[][] rowMasks;
+    private final int[] colors;
+    private final int[][] bottomProfiles;
+    private final int[][][][] kicks;
+
+    private BrickMasks(Brick brick) {
+        List<int[][]> shapes = brick.getShapeMatrix();
+        rowMasks = new long[shapes.size()][];
+        colors = new int[shapes.size()];
+        bottomProfiles = new int[shapes.size()][];
+        for (int r = 0; r < shapes.size(); r++) {
+            int[][] shape = shapes.get(r);
+            rowMasks[r] = new long[shape.length];
+            bottomProfiles[r] = new int[shape[0].length];
+            Arrays.fill(bottomProfiles[r], -1);
+            for (int i = 0; i < shape.length; i++) {
+                for (int j = 0; j < shape[i].length; j++) {
+                    if (shape[i][j] != 0) {
+                        rowMasks[r][i] |= 1L << j;
+                        colors[r] = shape[i][j];
+                        bottomProfiles[r][j] = i;
+                    }
+                }
+            }
+        }
+        RotationSystem[] systems = RotationSystem.values();
+        kicks = new int[systems.length][][][];
+        for (RotationSystem system : systems) {
+            kicks[system.ordinal()] = system.createKicks(brick);
+        }
+    }
+
+    public static BrickMasks of(Brick brick) {
+        BrickMasks masks = CACHE.get(brick.getClass());
+        if (masks == null) {
+            masks = new BrickMasks(brick);
+            CACHE.putIfAbsent(brick.getClass(), masks);
+        }
+        return masks;
+    }
+
+    public int getRotationCount() {
+        return rowMasks.length;
+    }
+
+    public long[] getRowMasks(int rotation) {
+        return rowMasks[rotation];
+    }
+
+    //Lowest filled shape row for every shape column, -1 for empty columns
+    public int[] getBottomProfile(int rotation) {
+        return bottomProfiles[rotation];
+    }
+
+    //Flattened (dx, dy) offsets to try in order when rotating from rotation in the given RotationSystem direction
+    public int[] getKicks(RotationSystem system, int rotation, int direction) {
+        return kicks[system.ordinal()][rotation][direction];
+    }
+
+    public int getColor(int rotation) {
+        return colors[rotation];
+    }
+
+    //Returns the shape row shifted to column x, or 0 when any of its cells falls outside fullRow
+    public static long place(long rowMask, int x, long fullRow) {
+        long placed;
+        if (x < 0) {
+            if (x <= -Long.SIZE || (rowMask & ((1L << -x) - 1)) != 0) {
+                return 0;
+            }
+            placed = rowMask >>> -x;
+        } else {
+            if (x >= Long.SIZE) {
+                return 0;
+            }
+            placed = rowMask << x;
+            if ((placed >>> x) != rowMask) {
+                return 0;
+            }
+        }
+        return (placed & ~fullRow) != 0 ? 0 : placed;
+    }
+}
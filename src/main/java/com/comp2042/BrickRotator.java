@@ -1,20 +1,35 @@
 package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
 
 public class BrickRotator {
 
     private Brick brick;
     private int currentShape = 0;
 
-    public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+    public int getNextShapePosition() {
+        return (currentShape + 1) % brick.getRotationCount();
     }
 
-    public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+    public int getPreviousShapePosition() {
+        return (currentShape + brick.getRotationCount() - 1) % brick.getRotationCount();
+    }
+
+    public BrickShape getCurrentShape() {
+        return brick.getShape(currentShape);
+    }
+
+    public BrickShape getShape(int position) {
+        return brick.getShape(position);
+    }
+
+    public int getCurrentShapePosition() {
+        return currentShape;
+    }
+
+    public Brick getBrick() {
+        return brick;
     }
 
     public void setCurrentShape(int currentShape) {
@@ -0,0 +1,131 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+import javafx.animation.AnimationTimer;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+
+//Draws the whole board into a single Canvas, at most once per pulse and only after the model changed
+public class CanvasRenderer implements GameRenderer {
+
+    private static final int BRICK_SIZE = 20;
+    private static final int GAP = 1;
+    private static final int CELL_SIZE = BRICK_SIZE + GAP;
+    private static final int ARC_SIZE = 9;
+    private static final int HIDDEN_ROWS = 2;
+    private static final int COLOR_COUNT = 16;
+    private static final double GHOST_OPACITY = 0.3;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final Image[] tiles = new Image[COLOR_COUNT];
+    private final Image[] ghostTiles = new Image[COLOR_COUNT];
+
+    private Canvas canvas;
+    private int[][] board;
+    private BrickShape brickData;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private boolean dirty;
+
+    private final AnimationTimer redrawTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (dirty) {
+                draw();
+                dirty = false;
+            }
+        }
+    };
+
+    public CanvasRenderer(GridPane gamePanel, GridPane brickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        board = new int[boardMatrix.length][boardMatrix[0].length];
+        canvas = new Canvas(board[0].length * CELL_SIZE - GAP, (board.length - HIDDEN_ROWS) * CELL_SIZE - GAP);
+        for (int i = 1; i < COLOR_COUNT; i++) {
+            tiles[i] = createTile(BrickColors.getFillColor(i), 1);
+            ghostTiles[i] = createTile(BrickColors.getFillColor(i), GHOST_OPACITY);
+        }
+        gamePanel.add(canvas, 0, 0);
+        brickPanel.setVisible(false);
+        refreshGameBackground(boardMatrix);
+        refreshBrick(brick);
+        redrawTimer.start();
+    }
+
+    private Image createTile(Color color, double opacity) {
+        Canvas tileCanvas = new Canvas(BRICK_SIZE, BRICK_SIZE);
+        GraphicsContext gc = tileCanvas.getGraphicsContext2D();
+        gc.setGlobalAlpha(opacity);
+        gc.setFill(color);
+        gc.fillRoundRect(0, 0, BRICK_SIZE, BRICK_SIZE, ARC_SIZE, ARC_SIZE);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return tileCanvas.snapshot(parameters, null);
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        if (brick.getBrickData() != brickData || brick.getxPosition() != brickX || brick.getyPosition() != brickY
+                || brick.getGhostYPosition() != ghostY) {
+            brickData = brick.getBrickData();
+            brickX = brick.getxPosition();
+            brickY = brick.getyPosition();
+            ghostY = brick.getGhostYPosition();
+            dirty = true;
+        }
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] newBoard) {
+        boolean changed = false;
+        for (int i = 0; i < newBoard.length; i++) {
+            for (int j = 0; j < newBoard[i].length; j++) {
+                if (board[i][j] != newBoard[i][j]) {
+                    board[i][j] = newBoard[i][j];
+                    changed = true;
+                }
+            }
+        }
+        //The ghost row for the new background arrives with the next refreshBrick
+        if (changed) {
+            dirty = true;
+        }
+    }
+
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = HIDDEN_ROWS; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                drawTile(gc, tiles, board[i][j], i, j);
+            }
+        }
+        for (int i = 0; i < brickData.getHeight(); i++) {
+            for (int j = 0; j < brickData.getWidth(); j++) {
+                drawTile(gc, ghostTiles, brickData.getCell(i, j), ghostY + i, brickX + j);
+            }
+        }
+        for (int i = 0; i < brickData.getHeight(); i++) {
+            for (int j = 0; j < brickData.getWidth(); j++) {
+                drawTile(gc, tiles, brickData.getCell(i, j), brickY + i, brickX + j);
+            }
+        }
+    }
+
+    private void drawTile(GraphicsContext gc, Image[] tileSet, int color, int row, int column) {
+        if (color != 0 && row >= HIDDEN_ROWS) {
+            gc.drawImage(tileSet[color & (COLOR_COUNT - 1)], column * CELL_SIZE, (row - HIDDEN_ROWS) * CELL_SIZE);
+        }
+    }
+}
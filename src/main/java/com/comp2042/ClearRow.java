@@ -16,8 +16,9 @@ public final class ClearRow {
         return linesRemoved;
     }
 
+    //Null for boards that do not keep a matrix or only build it when asked, see Board.getBoardMatrix
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return newMatrix;
     }
 
     public int getScoreBonus() {
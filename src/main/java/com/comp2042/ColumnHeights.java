@@ -0,0 +1,71 @@
+package com.comp2042;
+
+import java.util.Arrays;
+
+//Topmost filled row of every column, so a brick above the surface lands by a max over its columns instead of
+//stepping down one row at a time
+public class ColumnHeights {
+
+    private final int rows;
+    private final int[] tops;
+
+    public ColumnHeights(int rows, int columns) {
+        this.rows = rows;
+        tops = new int[columns];
+        reset();
+    }
+
+    public void reset() {
+        Arrays.fill(tops, rows);
+    }
+
+    public void place(int row, int column) {
+        if (row < tops[column]) {
+            tops[column] = row;
+        }
+    }
+
+    public void recompute(int[][] matrix) {
+        for (int j = 0; j < tops.length; j++) {
+            int top = 0;
+            while (top < rows && matrix[top][j] == 0) {
+                top++;
+            }
+            tops[j] = top;
+        }
+    }
+
+    public void recompute(long[] rowMasks) {
+        reset();
+        long seen = 0;
+        for (int i = 0; i < rows; i++) {
+            long newColumns = rowMasks[i] & ~seen;
+            while (newColumns != 0) {
+                tops[Long.numberOfTrailingZeros(newColumns)] = i;
+                newColumns &= newColumns - 1;
+            }
+            seen |= rowMasks[i];
+        }
+    }
+
+    public int getTop(int column) {
+        return tops[column];
+    }
+
+    //Landing row of a brick at (x, y) falling straight down, or -1 when part of it is below the surface of one of
+    //its columns, e.g. tucked under an overhang, where only stepping down can tell
+    public int landingY(int[] bottomProfile, int x, int y) {
+        int landing = Integer.MAX_VALUE;
+        for (int j = 0; j < bottomProfile.length; j++) {
+            int bottom = bottomProfile[j];
+            if (bottom >= 0) {
+                int top = tops[x + j];
+                if (y + bottom >= top) {
+                    return -1;
+                }
+                landing = Math.min(landing, top - 1 - bottom);
+            }
+        }
+        return landing;
+    }
+}
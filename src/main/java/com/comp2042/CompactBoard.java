@@ -0,0 +1,295 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.Bricks;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.metrics.GameMetrics;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+//Board for hosting many games at once: one long per row with 4 bits of color per cell, the shared BrickMasks
+//tables instead of a BrickRotator, and no cached int[][] or column heights, so a game is a few hundred bytes.
+//getBoardMatrix builds a fresh matrix on every call.
+public class CompactBoard implements Board {
+
+    private static final int CELL_BITS = 4;
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+    //Lowest bit of every cell, a cell is filled when any of its bits is
+    private static final long LOW_BITS = 0x1111111111111111L;
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 10;
+
+    private final long[] cells;
+    private final int columns;
+    private final long fullRow;
+    private final BrickGenerator brickGenerator;
+    private final RotationSystem rotationSystem;
+    private final Score score = new Score();
+    private Brick currentBrick;
+    private BrickMasks currentMasks;
+    private int currentRotation;
+    private int currentX;
+    private int currentY;
+
+    public CompactBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public CompactBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(width, height, brickGenerator, RotationSystem.CLASSIC);
+    }
+
+    public CompactBoard(int width, int height, BrickGenerator brickGenerator, RotationSystem rotationSystem) {
+        if (height * CELL_BITS > Long.SIZE) {
+            throw new IllegalArgumentException("CompactBoard supports at most " + Long.SIZE / CELL_BITS + " columns");
+        }
+        cells = new long[width];
+        columns = height;
+        fullRow = LOW_BITS >>> (Long.SIZE - height * CELL_BITS);
+        this.brickGenerator = brickGenerator;
+        this.rotationSystem = rotationSystem;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return moveBrick(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return moveBrick(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return moveBrick(1, 0);
+    }
+
+    private boolean moveBrick(int dx, int dy) {
+        if (intersects(currentRotation, currentX + dx, currentY + dy)) {
+            return false;
+        }
+        currentX += dx;
+        currentY += dy;
+        return true;
+    }
+
+    private static long filled(long row) {
+        return (row | (row >>> 1) | (row >>> 2) | (row >>> 3)) & LOW_BITS;
+    }
+
+    //Moves each column bit of a shape row to the lowest bit of its cell
+    private static long spread(long columnBits) {
+        long spread = 0;
+        while (columnBits != 0) {
+            spread |= 1L << (Long.numberOfTrailingZeros(columnBits) * CELL_BITS);
+            columnBits &= columnBits - 1;
+        }
+        return spread;
+    }
+
+    private boolean intersects(int rotation, int x, int y) {
+        long[] shape = currentMasks.getRowMasks(rotation);
+        long columnMask = (1L << columns) - 1;
+        for (int i = 0; i < shape.length; i++) {
+            if (shape[i] != 0) {
+                int targetY = y + i;
+                if (targetY < 0 || targetY >= cells.length) {
+                    return true;
+                }
+                long placed = BrickMasks.place(shape[i], x, columnMask);
+                if (placed == 0 || (spread(placed) & filled(cells[targetY])) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int landingY = getLandingY();
+        int dropped = landingY - currentY;
+        currentY = landingY;
+        return dropped;
+    }
+
+    private int getLandingY() {
+        int landingY = currentY;
+        while (!intersects(currentRotation, currentX, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateBrick((currentRotation + 1) % currentMasks.getRotationCount(), RotationSystem.ROTATE_LEFT);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        int count = currentMasks.getRotationCount();
+        return rotateBrick((currentRotation + count - 1) % count, RotationSystem.ROTATE_RIGHT);
+    }
+
+    private boolean rotateBrick(int nextRotation, int direction) {
+        int[] kicks = currentMasks.getKicks(rotationSystem, currentRotation, direction);
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!intersects(nextRotation, currentX + kicks[i], currentY + kicks[i + 1])) {
+                currentRotation = nextRotation;
+                currentX += kicks[i];
+                currentY += kicks[i + 1];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        setBrick(brickGenerator.getBrick(), 0);
+        currentX = SPAWN_X;
+        currentY = SPAWN_Y;
+        return intersects(currentRotation, currentX, currentY);
+    }
+
+    private void setBrick(Brick brick, int rotation) {
+        currentBrick = brick;
+        currentMasks = BrickMasks.of(brick);
+        currentRotation = rotation;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        int[][] matrix = new int[cells.length][columns];
+        for (int i = 0; i < cells.length; i++) {
+            long row = cells[i];
+            for (int j = 0; j < columns; j++) {
+                matrix[i][j] = (int) ((row >>> (j * CELL_BITS)) & CELL_MASK);
+            }
+        }
+        return matrix;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(currentBrick.getShape(currentRotation), currentX, currentY,
+                brickGenerator.getNextBrick().getShape(0), getLandingY());
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return currentRotation;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        long[] shape = currentMasks.getRowMasks(currentRotation);
+        long color = currentMasks.getColor(currentRotation);
+        long columnMask = (1L << columns) - 1;
+        for (int i = 0; i < shape.length; i++) {
+            if (shape[i] != 0) {
+                cells[currentY + i] |= spread(BrickMasks.place(shape[i], currentX, columnMask)) * color;
+            }
+        }
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        long start = GameMetrics.start();
+        int removed = 0;
+        for (int i = cells.length - 1; i >= 0; i--) {
+            if (filled(cells[i]) == fullRow) {
+                removed++;
+            } else if (removed > 0) {
+                cells[i + removed] = cells[i];
+            }
+        }
+        Arrays.fill(cells, 0, removed, 0L);
+        //No matrix in the result, the engine keeps the last ClearRow and a copy would outweigh the whole board
+        ClearRow clearRow = new ClearRow(removed, null, 50 * removed * removed);
+        GameMetrics.end(GameMetrics.Metric.CLEAR_ROWS, start);
+        return clearRow;
+    }
+
+    @Override
+    public boolean addGarbage(int lines, int holeColumn) {
+        lines = Math.min(lines, cells.length);
+        if (lines <= 0) {
+            return false;
+        }
+        boolean toppedOut = false;
+        for (int i = 0; i < lines; i++) {
+            toppedOut |= cells[i] != 0;
+        }
+        System.arraycopy(cells, lines, cells, 0, cells.length - lines);
+        long garbageRow = (fullRow & ~(1L << (holeColumn * CELL_BITS))) * GARBAGE_COLOR;
+        Arrays.fill(cells, cells.length - lines, cells.length, garbageRow);
+        return toppedOut;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(cells, 0L);
+        score.reset();
+        createNewBrick();
+    }
+
+    public int getRows() {
+        return cells.length;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    @Override
+    public int getStateSize() {
+        return BoardState.size(cells.length, columns, brickGenerator);
+    }
+
+    //The rows already are the rows of the saved layout
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        brickGenerator.writeState(buffer);
+        for (long row : cells) {
+            buffer.putLong(row);
+        }
+        BoardState.writeBrick(buffer, currentBrick, currentRotation, currentX, currentY, score);
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        brickGenerator.readState(buffer);
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = buffer.getLong();
+        }
+        setBrick(Bricks.get(buffer.get()), buffer.get());
+        currentX = buffer.get();
+        currentY = buffer.get();
+        BoardState.readScore(buffer, score);
+    }
+
+    @Override
+    public void checkState(ByteBuffer buffer, int offset) {
+        BoardState.check(buffer, offset, cells.length, columns, brickGenerator);
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.nio.ByteBuffer;
+
+//Parks an idle game as a fixed size byte array and brings it back, for servers holding far more games than are
+//active at once. Only games over a CompactBoard with a SeededBrickGenerator can be parked; the array holds the
+//board size, rules, board, generator and engine counters.
+public final class CompactGame {
+
+    private static final int LOOKAHEAD = 1;
+    private static final int HEADER_SIZE = 4;
+    private static final int FLAG_TWENTY_G = 1;
+
+    private CompactGame() {
+
+    }
+
+    public static GameEngine create(int width, int height, long seed, RotationSystem rotationSystem, boolean twentyG) {
+        SeededBrickGenerator generator = new SeededBrickGenerator(seed, true, LOOKAHEAD);
+        return new GameEngine(new CompactBoard(width, height, generator, rotationSystem), twentyG);
+    }
+
+    public static byte[] hibernate(GameEngine engine) {
+        if (!(engine.getBoard() instanceof CompactBoard)) {
+            throw new IllegalArgumentException("Only games on a CompactBoard can be hibernated");
+        }
+        CompactBoard board = (CompactBoard) engine.getBoard();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + board.getStateSize() + GameEngine.STATE_SIZE);
+        buffer.put((byte) board.getRows()).put((byte) board.getColumns())
+                .put((byte) (engine.isTwentyG() ? FLAG_TWENTY_G : 0)).put((byte) board.getRotationSystem().ordinal());
+        board.writeState(buffer);
+        engine.writeState(buffer);
+        return buffer.array();
+    }
+
+    public static GameEngine rehydrate(byte[] state) {
+        ByteBuffer buffer = ByteBuffer.wrap(state);
+        int rows = buffer.get();
+        int columns = buffer.get();
+        boolean twentyG = (buffer.get() & FLAG_TWENTY_G) != 0;
+        RotationSystem rotationSystem = RotationSystem.values()[buffer.get()];
+        GameEngine engine = create(rows, columns, 0, rotationSystem, twentyG);
+        engine.getBoard().readState(buffer);
+        engine.readState(buffer);
+        return engine;
+    }
+}
@@ -0,0 +1,108 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.util.Locale;
+
+//Measures the heap cost of a game on every board type, and of a hibernated game, e.g.
+//java -cp target/classes com.comp2042.FootprintMain --games=100000
+//A game is an engine, its board and a seeded generator after a few moves, measured as the heap growth after GC.
+//The figures depend on the JVM and its GC: 100,000 games measured about 516 bytes for COMPACT and 288 bytes
+//hibernated on JDK 21 with the serial GC. FootprintTest only holds the hibernated state size to a budget.
+public class FootprintMain {
+
+    private static final int BOARD_WIDTH = 25;
+    private static final int BOARD_HEIGHT = 10;
+    private static final int MOVES_PER_GAME = 20;
+    private static final EventType[] MOVES = EventType.values();
+
+    public static void main(String[] args) throws InterruptedException {
+        int games = 100_000;
+        for (String arg : args) {
+            if (arg.startsWith("--games=")) {
+                games = Integer.parseInt(value(arg));
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+
+        for (BoardType type : BoardType.values()) {
+            System.out.printf(Locale.ROOT, "%-10s %8.0f bytes per game%n", type, measure(type, games));
+        }
+        System.out.printf(Locale.ROOT, "%-10s %8.0f bytes per game (%d byte state)%n", "HIBERNATED",
+                measureHibernated(games), CompactGame.hibernate(createGame(0)).length);
+        timeHibernation(games);
+    }
+
+    private static double measure(BoardType type, int games) throws InterruptedException {
+        long before = usedHeap();
+        GameEngine[] engines = new GameEngine[games];
+        for (int i = 0; i < games; i++) {
+            engines[i] = new GameEngine(type.create(BOARD_WIDTH, BOARD_HEIGHT, new SeededBrickGenerator(i, true, 1)));
+            play(engines[i], i);
+        }
+        double bytes = (usedHeap() - before - arrayBytes(games)) / (double) games;
+        //Keeps the games reachable until after the measurement
+        return engines[games - 1].getPieceCount() > 0 ? bytes : 0;
+    }
+
+    private static double measureHibernated(int games) throws InterruptedException {
+        long before = usedHeap();
+        byte[][] parked = new byte[games][];
+        for (int i = 0; i < games; i++) {
+            parked[i] = CompactGame.hibernate(createGame(i));
+        }
+        double bytes = (usedHeap() - before - arrayBytes(games)) / (double) games;
+        return parked[games - 1].length > 0 ? bytes : 0;
+    }
+
+    static GameEngine createGame(int seed) {
+        GameEngine engine = CompactGame.create(BOARD_WIDTH, BOARD_HEIGHT, seed, RotationSystem.CLASSIC, false);
+        play(engine, seed);
+        return engine;
+    }
+
+    private static void timeHibernation(int games) {
+        GameEngine[] engines = new GameEngine[games];
+        for (int i = 0; i < games; i++) {
+            engines[i] = createGame(i);
+        }
+        byte[][] parked = new byte[games][];
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            parked[i] = CompactGame.hibernate(engines[i]);
+        }
+        double hibernateMicros = (System.nanoTime() - start) / 1e3 / games;
+        start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            engines[i] = CompactGame.rehydrate(parked[i]);
+        }
+        double rehydrateMicros = (System.nanoTime() - start) / 1e3 / games;
+        System.out.printf(Locale.ROOT, "hibernate %.2f us, rehydrate %.2f us per game%n", hibernateMicros,
+                rehydrateMicros);
+    }
+
+    private static void play(GameEngine engine, int seed) {
+        for (int i = 0; i < MOVES_PER_GAME; i++) {
+            engine.step(MOVES[Math.floorMod(seed * 31 + i * 7, MOVES.length)]);
+        }
+    }
+
+    //The reference array holding the games is not part of any game
+    private static long arrayBytes(int length) {
+        return 16 + 4L * length;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
@@ -0,0 +1,6 @@
+package com.comp2042;
+
+//Requests from the FX thread that act on the whole game rather than on the falling brick
+public enum GameCommand {
+    NEW_GAME, SAVE_GAME, LOAD_GAME, UNDO
+}
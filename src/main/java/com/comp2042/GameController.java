@@ -1,65 +1,264 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickGeneratorType;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.ai.AiPlayer;
+import com.comp2042.logic.ai.PlannerType;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.metrics.GameMetrics;
+import com.comp2042.logic.replay.ReplayWriter;
+import com.comp2042.logic.save.SaveSlot;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.List;
+
 public class GameController implements InputEventListener {
 
-    private Board board = new SimpleBoard(25, 10);
+    private static final int BOARD_WIDTH = 25;
+
+    private static final int BOARD_HEIGHT = 10;
+
+    private static final String REPLAY_FILE_PROPERTY = "tetris.replayFile";
+
+    private static final String SAVE_SLOT_PROPERTY = "tetris.saveSlot";
+
+    private static final String UNDO_DEPTH_PROPERTY = "tetris.undoDepth";
+
+    private final BrickGenerator brickGenerator = createBrickGenerator();
+
+    private final RotationSystem rotationSystem = RotationSystem.fromSystemProperty();
+
+    private final GameEngine engine = new GameEngine(BoardType.fromSystemProperty().create(BOARD_WIDTH, BOARD_HEIGHT, brickGenerator,
+            rotationSystem), Boolean.getBoolean("tetris.twentyG"));
+
+    private final Board board = engine.getBoard();
+
+    private final ReplayWriter replayWriter = createReplayWriter();
+
+    private final SaveSlot saveSlot = openSaveSlot();
+
+    private final GameHistory history = createHistory();
+
+    //Piece count of the newest history entry
+    private long recordedPieces;
 
     private final GuiController viewGuiController;
 
+    private final IntegerProperty score = new SimpleIntegerProperty(0);
+
     public GameController(GuiController c) {
         viewGuiController = c;
-        board.createNewBrick();
         viewGuiController.setEventListener(this);
+        resetHistory();
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        viewGuiController.bindScore(score);
+        if (Boolean.getBoolean("tetris.ai")) {
+            viewGuiController.setAiPlayer(new AiPlayer(board, PlannerType.fromSystemProperty().create(), this::getPreview));
+        }
+    }
+
+    private static BrickGenerator createBrickGenerator() {
+        BrickGeneratorType type = BrickGeneratorType.fromSystemProperty();
+        if (type == BrickGeneratorType.RANDOM && System.getProperty(REPLAY_FILE_PROPERTY) != null) {
+            //Replays are re-simulated from the seed, so recorded games need a seeded generator
+            type = BrickGeneratorType.SEEDED;
+        }
+        return type.create(Long.getLong("tetris.seed", System.nanoTime()), Integer.getInteger("tetris.preview", 5));
+    }
+
+    private List<Brick> getPreview() {
+        if (brickGenerator instanceof SeededBrickGenerator) {
+            return ((SeededBrickGenerator) brickGenerator).getPreview();
+        }
+        return List.of(brickGenerator.getNextBrick());
+    }
+
+    private ReplayWriter createReplayWriter() {
+        String replayFile = System.getProperty(REPLAY_FILE_PROPERTY);
+        if (replayFile == null) {
+            return null;
+        }
+        try {
+            ReplayWriter writer = ReplayWriter.append(Paths.get(replayFile));
+            writer.beginGame((SeededBrickGenerator) brickGenerator, BOARD_WIDTH, BOARD_HEIGHT, engine.isTwentyG(), rotationSystem);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> closeReplay(writer)));
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SaveSlot openSaveSlot() {
+        String saveFile = System.getProperty(SAVE_SLOT_PROPERTY);
+        if (saveFile == null) {
+            return null;
+        }
+        try {
+            return SaveSlot.open(Paths.get(saveFile), engine);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private GameHistory createHistory() {
+        int depth = Integer.getInteger(UNDO_DEPTH_PROPERTY, 0);
+        return depth > 0 ? new GameHistory(engine, depth + 1) : null;
+    }
+
+    private void resetHistory() {
+        if (history != null) {
+            history.clear();
+            history.record(engine);
+            recordedPieces = engine.getPieceCount();
+        }
+    }
+
+    //Every lock spawns the next piece, which starts a new history entry
+    private void recordHistory() {
+        if (history != null && engine.getPieceCount() != recordedPieces) {
+            history.record(engine);
+            recordedPieces = engine.getPieceCount();
+        }
+    }
+
+    private void closeReplay(ReplayWriter writer) {
+        try {
+            writer.endGame(engine);
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("Could not finish replay file: " + e.getMessage());
+        }
+    }
+
+    private void record(EventType type, EventSource source) {
+        if (replayWriter != null) {
+            replayWriter.recordStep(type, source, engine);
+        }
     }
 
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-            }
-            if (board.createNewBrick()) {
-                viewGuiController.gameOver();
-            }
+        long start = GameMetrics.start();
+        if (event.getEventSource() == EventSource.USER) {
+            engine.step(EventType.DOWN);
+        } else {
+            engine.tick();
+        }
+        record(EventType.DOWN, event.getEventSource());
+        DownData downData = afterDown();
+        GameMetrics.end(GameMetrics.Metric.DOWN_EVENT, start);
+        return downData;
+    }
 
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        long start = GameMetrics.start();
+        engine.step(EventType.HARD_DROP);
+        record(EventType.HARD_DROP, event.getEventSource());
+        DownData downData = afterDown();
+        GameMetrics.end(GameMetrics.Metric.HARD_DROP_EVENT, start);
+        return downData;
+    }
 
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
+    private DownData afterDown() {
+        recordHistory();
+        ClearRow clearRow = engine.getLastClearRow();
+        if (clearRow != null && engine.isGameOver()) {
+            viewGuiController.gameOver();
         }
+        score.setValue(engine.getScore());
         return new DownData(clearRow, board.getViewData());
     }
 
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        long start = GameMetrics.start();
+        engine.step(EventType.LEFT);
+        record(EventType.LEFT, event.getEventSource());
+        ViewData viewData = board.getViewData();
+        GameMetrics.end(GameMetrics.Metric.LEFT_EVENT, start);
+        return viewData;
     }
 
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        long start = GameMetrics.start();
+        engine.step(EventType.RIGHT);
+        record(EventType.RIGHT, event.getEventSource());
+        ViewData viewData = board.getViewData();
+        GameMetrics.end(GameMetrics.Metric.RIGHT_EVENT, start);
+        return viewData;
     }
 
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        long start = GameMetrics.start();
+        engine.step(event.getEventType());
+        record(event.getEventType(), event.getEventSource());
+        ViewData viewData = board.getViewData();
+        GameMetrics.end(GameMetrics.Metric.ROTATE_EVENT, start);
+        return viewData;
     }
 
 
     @Override
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        if (replayWriter != null) {
+            replayWriter.endGame(engine);
+            ((SeededBrickGenerator) brickGenerator).reset(System.nanoTime());
+        }
+        engine.newGame();
+        resetHistory();
+        if (replayWriter != null) {
+            replayWriter.beginGame((SeededBrickGenerator) brickGenerator, BOARD_WIDTH, BOARD_HEIGHT, engine.isTwentyG(), rotationSystem);
+        }
+        score.setValue(engine.getScore());
+    }
+
+    @Override
+    public void saveGame() {
+        if (saveSlot != null) {
+            saveSlot.save(engine);
+        }
+    }
+
+    //A recorded replay re-simulates from the seed and could not reproduce a loaded game, so loading is refused
+    @Override
+    public boolean loadGame() {
+        if (saveSlot == null || replayWriter != null) {
+            return false;
+        }
+        try {
+            if (!saveSlot.load(engine)) {
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Could not load saved game: " + e.getMessage());
+            return false;
+        }
+        resetHistory();
+        score.setValue(engine.getScore());
+        return true;
+    }
+
+    //Refused while recording a replay for the same reason as loading
+    @Override
+    public boolean undo() {
+        if (history == null || replayWriter != null || !history.stepBack(engine)) {
+            return false;
+        }
+        recordedPieces = engine.getPieceCount();
+        score.setValue(engine.getScore());
+        return true;
+    }
+
+    @Override
+    public GameSnapshot getSnapshot() {
+        return engine.snapshot();
     }
 }
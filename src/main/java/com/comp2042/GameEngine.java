@@ -0,0 +1,196 @@
+package com.comp2042;
+
+import java.nio.ByteBuffer;
+
+public class GameEngine {
+
+    //Bytes written by writeState
+    public static final int STATE_SIZE = 3 * Long.BYTES + Integer.BYTES + 1;
+
+    private final Board board;
+    private final boolean twentyG;
+    private ClearRow lastClearRow;
+    private boolean gameOver;
+    private long tickCount;
+    private long pieceCount;
+    private long linesCleared;
+    private int lastScoreBonus;
+    private LockListener lockListener;
+    //Immutable board shared by snapshots and the undo history, rebuilt from the board after it changed
+    private PersistentBoard boardVersion;
+    private boolean boardChanged = true;
+
+    public GameEngine(Board board) {
+        this(board, false);
+    }
+
+    //In 20G mode the brick falls to its landing row on every tick and after every move, and locks on the tick after
+    public GameEngine(Board board, boolean twentyG) {
+        this.board = board;
+        this.twentyG = twentyG;
+        gameOver = board.createNewBrick();
+        pieceCount = 1;
+    }
+
+    public boolean step(EventType action) {
+        lastClearRow = null;
+        if (gameOver) {
+            return false;
+        }
+        switch (action) {
+            case LEFT:
+                return settle(board.moveBrickLeft());
+            case RIGHT:
+                return settle(board.moveBrickRight());
+            case ROTATE:
+                return settle(board.rotateLeftBrick());
+            case ROTATE_RIGHT:
+                return settle(board.rotateRightBrick());
+            case HARD_DROP:
+                board.getScore().add(2 * board.hardDropBrick());
+                moveDown(EventSource.THREAD);
+                return false;
+            case DOWN:
+            default:
+                return moveDown(EventSource.USER);
+        }
+    }
+
+    private boolean settle(boolean moved) {
+        if (twentyG && moved) {
+            board.hardDropBrick();
+        }
+        return moved;
+    }
+
+    public boolean tick() {
+        lastClearRow = null;
+        if (gameOver) {
+            return false;
+        }
+        tickCount++;
+        if (twentyG && board.hardDropBrick() > 0) {
+            return true;
+        }
+        return moveDown(EventSource.THREAD);
+    }
+
+    private boolean moveDown(EventSource source) {
+        if (board.moveBrickDown()) {
+            if (source == EventSource.USER) {
+                board.getScore().add(1);
+            }
+            return true;
+        }
+        board.mergeBrickToBackground();
+        boardChanged = true;
+        lastClearRow = board.clearRows();
+        if (lastClearRow.getLinesRemoved() > 0) {
+            board.getScore().add(lastClearRow.getScoreBonus());
+            linesCleared += lastClearRow.getLinesRemoved();
+            lastScoreBonus = lastClearRow.getScoreBonus();
+        }
+        boolean toppedOut = lockListener != null && lockListener.afterLock(lastClearRow);
+        gameOver = board.createNewBrick() || toppedOut;
+        pieceCount++;
+        return false;
+    }
+
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(getBoardVersion().getRows(), board.getViewData(), getScore(), linesCleared, pieceCount, tickCount,
+                gameOver, lastScoreBonus);
+    }
+
+    public void newGame() {
+        board.newGame();
+        lastClearRow = null;
+        gameOver = false;
+        tickCount = 0;
+        pieceCount = 1;
+        linesCleared = 0;
+        lastScoreBonus = 0;
+        boardChanged = true;
+    }
+
+    //Counters and game over flag, the board saves its own state
+    public void writeState(ByteBuffer buffer) {
+        buffer.putLong(tickCount).putLong(pieceCount).putLong(linesCleared).putInt(lastScoreBonus)
+                .put((byte) (gameOver ? 1 : 0));
+    }
+
+    public void readState(ByteBuffer buffer) {
+        tickCount = buffer.getLong();
+        pieceCount = buffer.getLong();
+        linesCleared = buffer.getLong();
+        lastScoreBonus = buffer.getInt();
+        gameOver = buffer.get() != 0;
+        lastClearRow = null;
+        boardChanged = true;
+    }
+
+    //Counters can only be corrupt, not out of range, so only the game over flag is checked
+    public static void checkState(ByteBuffer buffer, int offset) {
+        if (offset < 0 || buffer.limit() - offset < STATE_SIZE) {
+            throw new IllegalArgumentException("Saved game is truncated");
+        }
+        int gameOver = buffer.get(offset + STATE_SIZE - 1);
+        if (gameOver != 0 && gameOver != 1) {
+            throw new IllegalArgumentException("Saved game over flag is " + gameOver);
+        }
+    }
+
+    //Only the rows changed since the last call are copied
+    public PersistentBoard getBoardVersion() {
+        if (boardVersion == null) {
+            boardVersion = PersistentBoard.of(board.getBoardMatrix());
+        } else if (boardChanged) {
+            boardVersion = boardVersion.update(board.getBoardMatrix());
+        }
+        boardChanged = false;
+        return boardVersion;
+    }
+
+    //For a board just restored to the cells of version, so the next version shares its rows
+    void setBoardVersion(PersistentBoard version) {
+        boardVersion = version;
+        boardChanged = false;
+    }
+
+    //Runs after every lock between clearing rows and spawning the next brick, e.g. to insert versus garbage
+    public void setLockListener(LockListener lockListener) {
+        this.lockListener = lockListener;
+    }
+
+    //Result of the last lock, or null when the last step or tick did not lock the brick
+    public ClearRow getLastClearRow() {
+        return lastClearRow;
+    }
+
+    public boolean isTwentyG() {
+        return twentyG;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getScore() {
+        return board.getScore().getValue();
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getPieceCount() {
+        return pieceCount;
+    }
+
+    public long getLinesCleared() {
+        return linesCleared;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+}
@@ -0,0 +1,83 @@
+package com.comp2042;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+//Bounded undo history with one entry per spawned piece, kept in a ring so the oldest entry makes room for the
+//newest. An entry is the engine's PersistentBoard, which shares all untouched rows with the entries around it,
+//plus the few bytes of generator, falling brick, score and engine counters. Stepping back moves the ring index
+//and copies the previous entry into the live board, neither of which allocates.
+public final class GameHistory {
+
+    private final PersistentBoard[] boards;
+    private final byte[][] tails;
+    private final ByteBuffer scratch;
+    //Tails are the engine state with the rows cut out, which sit after the generator state
+    private final int rowsOffset;
+    private final int rowsSize;
+    private int head;
+    private int size;
+
+    public GameHistory(GameEngine engine, int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        Board board = engine.getBoard();
+        int[][] matrix = board.getBoardMatrix();
+        rowsSize = BoardState.rowsSize(matrix.length, matrix[0].length);
+        rowsOffset = board.getStateSize() - rowsSize - BoardState.BRICK_SIZE;
+        scratch = ByteBuffer.allocate(board.getStateSize() + GameEngine.STATE_SIZE).order(ByteOrder.nativeOrder());
+        boards = new PersistentBoard[capacity];
+        tails = new byte[capacity][scratch.capacity() - rowsSize];
+    }
+
+    //Call once the engine spawned a new piece
+    public void record(GameEngine engine) {
+        if (size == boards.length) {
+            boards[head] = null;
+            head = (head + 1) % boards.length;
+            size--;
+        }
+        int index = (head + size) % boards.length;
+        boards[index] = engine.getBoardVersion();
+        scratch.clear();
+        engine.getBoard().writeState(scratch);
+        engine.writeState(scratch);
+        byte[] tail = tails[index];
+        System.arraycopy(scratch.array(), 0, tail, 0, rowsOffset);
+        System.arraycopy(scratch.array(), rowsOffset + rowsSize, tail, rowsOffset, tail.length - rowsOffset);
+        size++;
+    }
+
+    //Drops the newest entry and puts the engine back to the spawn before it, false when there is none
+    public boolean stepBack(GameEngine engine) {
+        if (size < 2) {
+            return false;
+        }
+        size--;
+        boards[(head + size) % boards.length] = null;
+        int index = (head + size - 1) % boards.length;
+        byte[] tail = tails[index];
+        scratch.clear();
+        scratch.put(tail, 0, rowsOffset);
+        boards[index].writeRows(scratch);
+        scratch.put(tail, rowsOffset, tail.length - rowsOffset);
+        scratch.flip();
+        engine.getBoard().readState(scratch);
+        engine.readState(scratch);
+        engine.setBoardVersion(boards[index]);
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            boards[(head + i) % boards.length] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
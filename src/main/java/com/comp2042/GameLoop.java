@@ -0,0 +1,32 @@
+package com.comp2042;
+
+import javafx.animation.AnimationTimer;
+
+//Renders once per FX pulse. Without a logic thread it also drives the fixed timestep logic from the pulse.
+public class GameLoop extends AnimationTimer {
+
+    private final LogicLoop logicLoop;
+    private final Runnable renderFrame;
+
+    //logicLoop is null when a LogicThread runs the logic
+    public GameLoop(LogicLoop logicLoop, Runnable renderFrame) {
+        this.logicLoop = logicLoop;
+        this.renderFrame = renderFrame;
+    }
+
+    @Override
+    public void start() {
+        if (logicLoop != null) {
+            logicLoop.start(System.nanoTime());
+        }
+        super.start();
+    }
+
+    @Override
+    public void handle(long now) {
+        if (logicLoop != null) {
+            logicLoop.advance(now);
+        }
+        renderFrame.run();
+    }
+}
@@ -0,0 +1,10 @@
+package com.comp2042;
+
+public interface GameRenderer {
+
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    void refreshBrick(ViewData brick);
+
+    void refreshGameBackground(int[][] board);
+}
@@ -0,0 +1,58 @@
+package com.comp2042;
+
+public final class GameSnapshot {
+
+    private final int[][] boardMatrix;
+    private final ViewData viewData;
+    private final int score;
+    private final long linesCleared;
+    private final long pieceCount;
+    private final long tickCount;
+    private final boolean gameOver;
+    private final int lastScoreBonus;
+
+    public GameSnapshot(int[][] boardMatrix, ViewData viewData, int score, long linesCleared, long pieceCount, long tickCount,
+                        boolean gameOver, int lastScoreBonus) {
+        this.boardMatrix = boardMatrix;
+        this.viewData = viewData;
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.pieceCount = pieceCount;
+        this.tickCount = tickCount;
+        this.gameOver = gameOver;
+        this.lastScoreBonus = lastScoreBonus;
+    }
+
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    public ViewData getViewData() {
+        return viewData;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getLinesCleared() {
+        return linesCleared;
+    }
+
+    public long getPieceCount() {
+        return pieceCount;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    //Bonus of the most recent line clear, shown when linesCleared went up since the last snapshot drawn
+    public int getLastScoreBonus() {
+        return lastScoreBonus;
+    }
+}
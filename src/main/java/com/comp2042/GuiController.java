@@ -1,7 +1,7 @@
 package com.comp2042;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.logic.ai.AiPlayer;
+import com.comp2042.logic.metrics.GameMetrics;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -14,19 +14,13 @@ import javafx.scene.effect.Reflection;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
 
 import java.net.URL;
 import java.util.ResourceBundle;
 
 public class GuiController implements Initializable {
 
-    private static final int BRICK_SIZE = 20;
-
     @FXML
     private GridPane gamePanel;
 
@@ -39,13 +33,43 @@ public class GuiController implements Initializable {
     @FXML
     private GameOverPanel gameOverPanel;
 
-    private Rectangle[][] displayMatrix;
+    @FXML
+    private MetricsOverlay metricsOverlay;
+
+    private GameRenderer renderer;
 
     private InputEventListener eventListener;
 
-    private Rectangle[][] rectangles;
+    private final TimingConfig timingConfig = TimingConfig.fromSystemProperties();
+
+    private final LogicLoop logicLoop = new LogicLoop(timingConfig, this::handleAction);
+
+    //-Dtetris.logicThread=false runs the logic on the FX pulse instead
+    private final LogicThread logicThread = Boolean.parseBoolean(System.getProperty("tetris.logicThread", "true"))
+            ? new LogicThread(logicLoop, this::afterTicks, this::runCommand) : null;
+
+    private final GameLoop gameLoop = new GameLoop(logicThread == null ? logicLoop : null, this::renderFrame);
+
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+
+    //Set after the logic thread started, so it is read through a volatile
+    private volatile AiPlayer aiPlayer;
+
+    //Logic side state, only touched by the thread running the logic
+    private ViewData currentBrick;
+
+    private boolean frameChanged;
+
+    private boolean gameEnded;
 
-    private Timeline timeLine;
+    private long lastGravityTime;
+
+    //FX side state
+    private int[][] renderedBoard;
+
+    private long renderedLines;
+
+    private long pendingInputTime;
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
 
@@ -60,26 +84,49 @@ public class GuiController implements Initializable {
             @Override
             public void handle(KeyEvent keyEvent) {
                 if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-                    if (keyEvent.getCode() == KeyCode.LEFT || keyEvent.getCode() == KeyCode.A) {
-                        refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.RIGHT || keyEvent.getCode() == KeyCode.D) {
-                        refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W) {
-                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                    EventType type = getEventType(keyEvent.getCode());
+                    if (type != null) {
+                        long now = System.nanoTime();
+                        if (logicThread != null) {
+                            logicThread.keyPressed(type, now);
+                        } else {
+                            logicLoop.keyPressed(type, now);
+                        }
+                        if (pendingInputTime == 0) {
+                            pendingInputTime = now;
+                        }
                         keyEvent.consume();
                     }
                 }
                 if (keyEvent.getCode() == KeyCode.N) {
                     newGame(null);
                 }
+                if (keyEvent.getCode() == KeyCode.F3) {
+                    metricsOverlay.toggle();
+                }
+                if (keyEvent.getCode() == KeyCode.F5) {
+                    requestCommand(GameCommand.SAVE_GAME);
+                }
+                if (keyEvent.getCode() == KeyCode.F9) {
+                    requestCommand(GameCommand.LOAD_GAME);
+                }
+                if (keyEvent.getCode() == KeyCode.BACK_SPACE) {
+                    requestCommand(GameCommand.UNDO);
+                }
+            }
+        });
+        gamePanel.setOnKeyReleased(new EventHandler<KeyEvent>() {
+            @Override
+            public void handle(KeyEvent keyEvent) {
+                EventType type = getEventType(keyEvent.getCode());
+                if (type != null) {
+                    if (logicThread != null) {
+                        logicThread.keyReleased(type, System.nanoTime());
+                    } else {
+                        logicLoop.keyReleased(type, System.nanoTime());
+                    }
+                    keyEvent.consume();
+                }
             }
         });
         gameOverPanel.setVisible(false);
@@ -91,132 +138,232 @@ public class GuiController implements Initializable {
     }
 
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
-            }
+        renderer = RendererType.fromSystemProperty().create(gamePanel, brickPanel);
+        renderer.initGameView(boardMatrix, brick);
+
+
+        currentBrick = brick;
+        frameChanged = true;
+        gameLoop.start();
+        if (logicThread != null) {
+            logicThread.start();
         }
+    }
 
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
+    private EventType getEventType(KeyCode code) {
+        if (code == KeyCode.LEFT || code == KeyCode.A) {
+            return EventType.LEFT;
+        }
+        if (code == KeyCode.RIGHT || code == KeyCode.D) {
+            return EventType.RIGHT;
+        }
+        if (code == KeyCode.UP || code == KeyCode.W) {
+            return EventType.ROTATE;
+        }
+        if (code == KeyCode.X || code == KeyCode.E) {
+            return EventType.ROTATE_RIGHT;
+        }
+        if (code == KeyCode.DOWN || code == KeyCode.S) {
+            return EventType.DOWN;
+        }
+        if (code == KeyCode.SPACE) {
+            return EventType.HARD_DROP;
+        }
+        return null;
+    }
+
+    //Runs on the thread running the logic, the FX side only sees its results through published snapshots
+    private boolean handleAction(EventType type, EventSource source) {
+        if (gameEnded) {
+            return false;
+        }
+        frameChanged = true;
+        if (GameMetrics.ENABLED && source == EventSource.THREAD) {
+            recordTickJitter(System.nanoTime());
         }
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-        brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
-
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-    }
-
-    private Paint getFillColor(int i) {
-        Paint returnPaint;
-        switch (i) {
-            case 0:
-                returnPaint = Color.TRANSPARENT;
-                break;
-            case 1:
-                returnPaint = Color.AQUA;
-                break;
-            case 2:
-                returnPaint = Color.BLUEVIOLET;
-                break;
-            case 3:
-                returnPaint = Color.DARKGREEN;
-                break;
-            case 4:
-                returnPaint = Color.YELLOW;
-                break;
-            case 5:
-                returnPaint = Color.RED;
-                break;
-            case 6:
-                returnPaint = Color.BEIGE;
-                break;
-            case 7:
-                returnPaint = Color.BURLYWOOD;
-                break;
+        MoveEvent event = new MoveEvent(type, source);
+        switch (type) {
+            case LEFT:
+                return updateBrick(eventListener.onLeftEvent(event));
+            case RIGHT:
+                return updateBrick(eventListener.onRightEvent(event));
+            case ROTATE:
+            case ROTATE_RIGHT:
+                return updateBrick(eventListener.onRotateEvent(event));
+            case HARD_DROP:
+                return moveDown(event);
+            case DOWN:
             default:
-                returnPaint = Color.WHITE;
-                break;
+                return moveDown(event);
         }
-        return returnPaint;
     }
 
+    private void recordTickJitter(long now) {
+        if (lastGravityTime != 0) {
+            long expected = timingConfig.getGravityTicks() * timingConfig.getTickNanos();
+            GameMetrics.record(GameMetrics.Metric.TICK_JITTER, Math.abs(now - lastGravityTime - expected));
+        }
+        lastGravityTime = now;
+    }
 
-    private void refreshBrick(ViewData brick) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-            brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
-            }
+    private boolean updateBrick(ViewData brick) {
+        boolean changed = brick.getxPosition() != currentBrick.getxPosition()
+                || brick.getyPosition() != currentBrick.getyPosition()
+                || brick.getBrickData() != currentBrick.getBrickData();
+        currentBrick = brick;
+        return changed;
+    }
+
+    private void playAiMove() {
+        AiPlayer player = aiPlayer;
+        if (player == null || gameEnded) {
+            return;
+        }
+        EventType type = player.nextMove();
+        if (!handleAction(type, EventSource.USER) && type != EventType.DOWN) {
+            player.invalidatePlan();
+        }
+    }
+
+    //Logic side end of a frame or tick: one AI move, then a snapshot if anything changed
+    private void afterTicks() {
+        playAiMove();
+        if (frameChanged) {
+            frameChanged = false;
+            snapshots.publish(eventListener.getSnapshot());
         }
     }
 
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+    private void renderFrame() {
+        if (logicThread == null) {
+            afterTicks();
+        }
+        GameSnapshot snapshot = snapshots.swap();
+        if (snapshot != null) {
+            render(snapshot);
+        }
+        if (GameMetrics.ENABLED) {
+            long now = System.nanoTime();
+            if (pendingInputTime != 0 && snapshot != null) {
+                GameMetrics.record(GameMetrics.Metric.INPUT_TO_RENDER, now - pendingInputTime);
+                pendingInputTime = 0;
             }
+            metricsOverlay.refresh(now);
         }
     }
 
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+    private void render(GameSnapshot snapshot) {
+        if (snapshot.getBoardMatrix() != renderedBoard) {
+            renderedBoard = snapshot.getBoardMatrix();
+            refreshGameBackground(renderedBoard);
+        }
+        if (snapshot.getLinesCleared() > renderedLines) {
+            NotificationPanel notificationPanel = new NotificationPanel("+" + snapshot.getLastScoreBonus());
+            groupNotification.getChildren().add(notificationPanel);
+            notificationPanel.showScore(groupNotification.getChildren());
+        }
+        renderedLines = snapshot.getLinesCleared();
+        refreshBrick(snapshot.getViewData());
+        if (snapshot.isGameOver() != isGameOver.getValue()) {
+            gameOverPanel.setVisible(snapshot.isGameOver());
+            isGameOver.setValue(snapshot.isGameOver());
+        }
     }
 
-    private void moveDown(MoveEvent event) {
+    private void refreshBrick(ViewData brick) {
         if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            refreshBrick(downData.getViewData());
+            long start = GameMetrics.start();
+            renderer.refreshBrick(brick);
+            GameMetrics.end(GameMetrics.Metric.REFRESH_BRICK, start);
         }
-        gamePanel.requestFocus();
+    }
+
+    private void refreshGameBackground(int[][] board) {
+        long start = GameMetrics.start();
+        renderer.refreshGameBackground(board);
+        GameMetrics.end(GameMetrics.Metric.REFRESH_BACKGROUND, start);
+    }
+
+    private boolean moveDown(MoveEvent event) {
+        DownData downData = event.getEventType() == EventType.HARD_DROP
+                ? eventListener.onHardDropEvent(event) : eventListener.onDownEvent(event);
+        AiPlayer player = aiPlayer;
+        if (player != null && downData.getClearRow() != null) {
+            player.invalidatePlan();
+        }
+        updateBrick(downData.getViewData());
+        return downData.getClearRow() == null;
     }
 
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
+    public void setAiPlayer(AiPlayer aiPlayer) {
+        this.aiPlayer = aiPlayer;
+    }
+
     public void bindScore(IntegerProperty integerProperty) {
     }
 
+    //Called on the logic side, the game over panel follows with the snapshot
     public void gameOver() {
-        timeLine.stop();
-        gameOverPanel.setVisible(true);
-        isGameOver.setValue(Boolean.TRUE);
+        gameEnded = true;
+        lastGravityTime = 0;
     }
 
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
-        gameOverPanel.setVisible(false);
-        eventListener.createNewGame();
+        requestCommand(GameCommand.NEW_GAME);
         gamePanel.requestFocus();
-        timeLine.play();
         isPause.setValue(Boolean.FALSE);
-        isGameOver.setValue(Boolean.FALSE);
+    }
+
+    private void requestCommand(GameCommand command) {
+        if (logicThread != null) {
+            logicThread.requestCommand(command);
+        } else if (runCommand(command)) {
+            logicLoop.start(System.nanoTime());
+        }
+    }
+
+    //Runs on the thread running the logic, returns whether the command replaced the game
+    private boolean runCommand(GameCommand command) {
+        switch (command) {
+            case SAVE_GAME:
+                eventListener.saveGame();
+                return false;
+            case LOAD_GAME:
+                if (eventListener.loadGame()) {
+                    restartGame(eventListener.getSnapshot().isGameOver());
+                    return true;
+                }
+                return false;
+            case UNDO:
+                if (eventListener.undo()) {
+                    restartGame(eventListener.getSnapshot().isGameOver());
+                    return true;
+                }
+                return false;
+            case NEW_GAME:
+            default:
+                startNewGame();
+                return true;
+        }
+    }
+
+    private void startNewGame() {
+        eventListener.createNewGame();
+        restartGame(false);
+    }
+
+    private void restartGame(boolean ended) {
+        lastGravityTime = 0;
+        AiPlayer player = aiPlayer;
+        if (player != null) {
+            player.invalidatePlan();
+        }
+        gameEnded = ended;
+        frameChanged = true;
     }
 
     public void pauseGame(ActionEvent actionEvent) {
@@ -10,5 +10,17 @@ public interface InputEventListener {
 
     ViewData onRotateEvent(MoveEvent event);
 
+    DownData onHardDropEvent(MoveEvent event);
+
     void createNewGame();
+
+    void saveGame();
+
+    //Returns true when a saved game replaced the current one
+    boolean loadGame();
+
+    //Returns true when the game went back to the spawn of the previous piece
+    boolean undo();
+
+    GameSnapshot getSnapshot();
 }
@@ -0,0 +1,74 @@
+package com.comp2042;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+//Single producer, single consumer ring of timestamped input codes. Each side only writes its own index and
+//publishes it with a release store, so offering and draining never lock or wait on the other thread.
+public final class InputRing {
+
+    public interface Consumer {
+        void accept(int code, long time);
+    }
+
+    private final int mask;
+    private final int[] codes;
+    private final long[] times;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    //Each side's last look at the other side's index, so the shared counters are only read when needed
+    private long producerHead;
+    private long consumerTail;
+
+    public InputRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        codes = new int[capacity];
+        times = new long[capacity];
+    }
+
+    //Producer side, returns false and drops the input when the consumer is a full ring behind. The last slot is kept
+    //for offerReserved, so an input that must not be lost still has room when this refuses.
+    public boolean offer(int code, long time) {
+        return offer(code, time, codes.length - 1);
+    }
+
+    //Producer side, may take the slot offer keeps free. Once it has, the ring is full and the reserved entry is the
+    //newest one, until the consumer drains.
+    public boolean offerReserved(int code, long time) {
+        return offer(code, time, codes.length);
+    }
+
+    private boolean offer(int code, long time, int capacity) {
+        long position = tail.get();
+        if (position - producerHead >= capacity) {
+            producerHead = head.get();
+            if (position - producerHead >= capacity) {
+                return false;
+            }
+        }
+        int index = (int) position & mask;
+        codes[index] = code;
+        times[index] = time;
+        tail.lazySet(position + 1);
+        return true;
+    }
+
+    //Consumer side, hands every published entry to consumer in order and returns how many there were
+    public int drain(Consumer consumer) {
+        long position = head.get();
+        if (position == consumerTail) {
+            consumerTail = tail.get();
+        }
+        int drained = 0;
+        while (position < consumerTail) {
+            int index = (int) position & mask;
+            consumer.accept(codes[index], times[index]);
+            position++;
+            drained++;
+        }
+        head.lazySet(position);
+        return drained;
+    }
+}
@@ -0,0 +1,108 @@
+package com.comp2042;
+
+import com.comp2042.logic.metrics.LatencyHistogram;
+import com.comp2042.logic.server.GameServer;
+import com.comp2042.logic.server.LoadGenerator;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+//Drives a GameServer with many simulated players and reports sessions per GB and latency percentiles, e.g.
+//java -cp target/classes com.comp2042.LoadGeneratorMain --embedded --sessions=10000 --seconds=30
+//With --embedded the server runs in this JVM, so the memory figure covers a session and its client socket together.
+public class LoadGeneratorMain {
+
+    private static final int BOARD_WIDTH = 25;
+    private static final int BOARD_HEIGHT = 10;
+    private static final int BATCH_SIZE = 500;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = "127.0.0.1";
+        int port = 7420;
+        int sessions = 10_000;
+        long inputMs = 250;
+        long gravityMs = 400;
+        int seconds = 30;
+        long seed = 1;
+        boolean embedded = false;
+        for (String arg : args) {
+            if (arg.startsWith("--host=")) {
+                host = value(arg);
+            } else if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--sessions=")) {
+                sessions = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--inputMs=")) {
+                inputMs = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--gravityMs=")) {
+                gravityMs = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--seconds=")) {
+                seconds = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value(arg));
+            } else if (arg.equals("--embedded")) {
+                embedded = true;
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+
+        GameServer server = null;
+        long heapBefore = usedHeap();
+        if (embedded) {
+            server = new GameServer(BoardType.fromSystemProperty(), BOARD_WIDTH, BOARD_HEIGHT,
+                    RotationSystem.fromSystemProperty(), seed, TimeUnit.MILLISECONDS.toNanos(gravityMs));
+            server.start(0);
+            port = server.getPort();
+        }
+        LoadGenerator generator = new LoadGenerator(host, port, TimeUnit.MILLISECONDS.toNanos(inputMs), seed);
+        long start = System.nanoTime();
+        generator.start(sessions, BATCH_SIZE);
+        System.out.printf(Locale.ROOT, "%d sessions connected (%d failed) in %.1f s%n", generator.getConnected(),
+                generator.getFailed(), (System.nanoTime() - start) / 1e9);
+        long heapAfter = usedHeap();
+
+        //Warm up for a second, then measure the steady state only
+        Thread.sleep(1000);
+        generator.resetRoundTrip();
+        if (server != null) {
+            server.resetTickLatency();
+        }
+        long framesBefore = generator.getFrames();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        long frames = generator.getFrames() - framesBefore;
+
+        System.out.printf(Locale.ROOT, "%d inputs, %d frames (%.0f/s), %d games over in %d s%n",
+                generator.getRoundTripCount(), frames, frames / (double) seconds, generator.getGamesOver(), seconds);
+        System.out.printf(Locale.ROOT, "input round trip p50 %.2f ms p99 %.2f ms p99.9 %.2f ms%n",
+                generator.getRoundTripPercentile(50) / 1e6, generator.getRoundTripPercentile(99) / 1e6,
+                generator.getRoundTripPercentile(99.9) / 1e6);
+        if (server != null) {
+            LatencyHistogram tickLatency = server.getTickLatency();
+            System.out.printf(Locale.ROOT, "%d sessions, %d ticks, tick latency p50 %.2f ms p99 %.2f ms p99.9 %.2f ms%n",
+                    server.getSessionCount(), tickLatency.getCount(), tickLatency.getPercentile(50) / 1e6,
+                    tickLatency.getPercentile(99) / 1e6, tickLatency.getPercentile(99.9) / 1e6);
+            double bytesPerSession = (heapAfter - heapBefore) / (double) Math.max(1, generator.getConnected());
+            System.out.printf(Locale.ROOT, "%.1f KB heap per session including its client, %.0f sessions/GB%n",
+                    bytesPerSession / 1024, (1L << 30) / bytesPerSession);
+        }
+        generator.stop();
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
@@ -0,0 +1,8 @@
+package com.comp2042;
+
+public interface LockListener {
+
+    //Called after every lock once full rows are cleared and before the next brick spawns, returns true when the
+    //listener changed the board in a way that ends the game, e.g. garbage pushed cells out of the top
+    boolean afterLock(ClearRow clearRow);
+}
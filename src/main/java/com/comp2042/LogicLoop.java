@@ -0,0 +1,226 @@
+package com.comp2042;
+
+import com.comp2042.logic.metrics.GameMetrics;
+
+//Fixed timestep game logic: buffered, timestamped input with DAS/ARR and soft drop repeat, plus gravity counted in ticks
+public class LogicLoop {
+
+    public interface ActionHandler {
+        boolean handle(EventType type, EventSource source);
+    }
+
+    private static final int MAX_TICKS_PER_ADVANCE = 10;
+    private static final int MAX_AUTO_REPEAT_MOVES = 64;
+    private static final int RELEASED = 1 << 8;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private final TimingConfig config;
+    private final ActionHandler handler;
+    private final long tickNanos;
+
+    private long[] eventTimes = new long[64];
+    private int[] eventCodes = new int[64];
+    private int eventHead;
+    private int eventCount;
+
+    private long nextTickTime;
+    private long tickCount;
+    private int gravityCounter;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private boolean downHeld;
+    private EventType horizontalDirection;
+    private int dasCounter;
+    private int arrCounter;
+    private int softDropCounter;
+
+    public LogicLoop(TimingConfig config, ActionHandler handler) {
+        this.config = config;
+        this.handler = handler;
+        tickNanos = config.getTickNanos();
+    }
+
+    public void start(long now) {
+        nextTickTime = now + tickNanos;
+        tickCount = 0;
+        gravityCounter = 0;
+        eventCount = 0;
+        leftHeld = false;
+        rightHeld = false;
+        downHeld = false;
+        horizontalDirection = null;
+    }
+
+    public void keyPressed(EventType type, long time) {
+        enqueue(type.ordinal(), time);
+    }
+
+    public void keyReleased(EventType type, long time) {
+        enqueue(type.ordinal() | RELEASED, time);
+    }
+
+    //Releases every key that can be held, for when the individual releases were lost
+    public void allKeysReleased(long time) {
+        keyReleased(EventType.LEFT, time);
+        keyReleased(EventType.RIGHT, time);
+        keyReleased(EventType.DOWN, time);
+    }
+
+    private void enqueue(int code, long time) {
+        if (eventCount == eventCodes.length) {
+            long[] times = new long[eventCount * 2];
+            int[] codes = new int[eventCount * 2];
+            for (int i = 0; i < eventCount; i++) {
+                times[i] = eventTimes[(eventHead + i) % eventCount];
+                codes[i] = eventCodes[(eventHead + i) % eventCount];
+            }
+            eventTimes = times;
+            eventCodes = codes;
+            eventHead = 0;
+        }
+        int tail = (eventHead + eventCount) % eventCodes.length;
+        eventTimes[tail] = time;
+        eventCodes[tail] = code;
+        eventCount++;
+    }
+
+    //advanceTo plus the allocation per tick metric, measured on whichever thread runs the logic
+    public int advance(long now) {
+        if (!GameMetrics.ENABLED) {
+            return advanceTo(now);
+        }
+        long allocatedBefore = GameMetrics.currentThreadAllocatedBytes();
+        int ticks = advanceTo(now);
+        if (ticks > 0 && allocatedBefore >= 0) {
+            GameMetrics.record(GameMetrics.Metric.ALLOCATION_PER_TICK,
+                    (GameMetrics.currentThreadAllocatedBytes() - allocatedBefore) / ticks);
+        }
+        return ticks;
+    }
+
+    //Runs every tick that is due by now and returns how many ran
+    public int advanceTo(long now) {
+        int ticks = 0;
+        while (nextTickTime <= now) {
+            if (ticks == MAX_TICKS_PER_ADVANCE) {
+                nextTickTime = now + tickNanos;
+                break;
+            }
+            processInput(nextTickTime);
+            tick();
+            nextTickTime += tickNanos;
+            ticks++;
+        }
+        return ticks;
+    }
+
+    private void processInput(long tickTime) {
+        while (eventCount > 0 && eventTimes[eventHead] <= tickTime) {
+            int code = eventCodes[eventHead];
+            eventHead = (eventHead + 1) % eventCodes.length;
+            eventCount--;
+            EventType type = EVENT_TYPES[code & ~RELEASED];
+            if ((code & RELEASED) != 0) {
+                release(type);
+            } else {
+                press(type);
+            }
+        }
+    }
+
+    private void press(EventType type) {
+        switch (type) {
+            case LEFT:
+            case RIGHT:
+                if (type == EventType.LEFT ? leftHeld : rightHeld) {
+                    return;
+                }
+                if (type == EventType.LEFT) {
+                    leftHeld = true;
+                } else {
+                    rightHeld = true;
+                }
+                startAutoRepeat(type);
+                handler.handle(type, EventSource.USER);
+                break;
+            case DOWN:
+                if (downHeld) {
+                    return;
+                }
+                downHeld = true;
+                softDropCounter = 0;
+                handler.handle(EventType.DOWN, EventSource.USER);
+                break;
+            default:
+                handler.handle(type, EventSource.USER);
+                break;
+        }
+    }
+
+    private void release(EventType type) {
+        switch (type) {
+            case LEFT:
+                leftHeld = false;
+                if (horizontalDirection == EventType.LEFT) {
+                    resumeAutoRepeat(rightHeld, EventType.RIGHT);
+                }
+                break;
+            case RIGHT:
+                rightHeld = false;
+                if (horizontalDirection == EventType.RIGHT) {
+                    resumeAutoRepeat(leftHeld, EventType.LEFT);
+                }
+                break;
+            case DOWN:
+                downHeld = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void resumeAutoRepeat(boolean otherHeld, EventType other) {
+        if (otherHeld) {
+            startAutoRepeat(other);
+        } else {
+            horizontalDirection = null;
+        }
+    }
+
+    private void startAutoRepeat(EventType direction) {
+        horizontalDirection = direction;
+        dasCounter = 0;
+        arrCounter = 0;
+    }
+
+    private void tick() {
+        tickCount++;
+        if (horizontalDirection != null && ++dasCounter >= config.getDasTicks()) {
+            if (config.getArrTicks() == 0) {
+                for (int i = 0; i < MAX_AUTO_REPEAT_MOVES && handler.handle(horizontalDirection, EventSource.USER); i++) {
+                    //slide until blocked
+                }
+            } else if (arrCounter-- <= 0) {
+                arrCounter = config.getArrTicks() - 1;
+                handler.handle(horizontalDirection, EventSource.USER);
+            }
+        }
+        if (downHeld && ++softDropCounter >= config.getSoftDropTicks()) {
+            softDropCounter = 0;
+            handler.handle(EventType.DOWN, EventSource.USER);
+        }
+        if (++gravityCounter >= config.getGravityTicks()) {
+            gravityCounter = 0;
+            handler.handle(EventType.DOWN, EventSource.THREAD);
+        }
+    }
+
+    public long getNextTickTime() {
+        return nextTickTime;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
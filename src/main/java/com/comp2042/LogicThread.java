@@ -0,0 +1,96 @@
+package com.comp2042;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+//Runs the fixed timestep LogicLoop on its own thread, so a slow frame never delays the game and a slow AI move
+//never delays a frame. Key events cross over from the FX thread through an InputRing and are applied at the
+//tick their timestamp falls in, exactly as when the loop is driven by the FX pulse.
+public class LogicThread {
+
+    private static final int INPUT_CAPACITY = 1024;
+    private static final int RELEASED = 1 << 8;
+    private static final int COMMAND = 1 << 9;
+    private static final int RELEASE_ALL = 1 << 10;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final GameCommand[] COMMANDS = GameCommand.values();
+
+    private final LogicLoop logicLoop;
+    private final Runnable afterTicks;
+    private final Predicate<GameCommand> commands;
+    private final InputRing input = new InputRing(INPUT_CAPACITY);
+    private final InputRing.Consumer inputConsumer = this::accept;
+    private volatile boolean running;
+    private Thread thread;
+
+    //afterTicks runs on the logic thread after every advance that ran at least one tick, commands in input order.
+    //commands returns whether the command replaced the game, and only then the loop restarts, since a new, loaded
+    //or undone game begins without held keys. A save or a refused load leaves held keys and the tick phase alone.
+    public LogicThread(LogicLoop logicLoop, Runnable afterTicks, Predicate<GameCommand> commands) {
+        this.logicLoop = logicLoop;
+        this.afterTicks = afterTicks;
+        this.commands = commands;
+    }
+
+    public void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "tetris-logic");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    public void keyPressed(EventType type, long time) {
+        input.offer(type.ordinal(), time);
+    }
+
+    //A dropped release would leave the key held, so a release that does not fit takes the reserved slot and releases
+    //every key instead. When that slot is taken too, the newest entry already releases every key.
+    public void keyReleased(EventType type, long time) {
+        if (!input.offer(type.ordinal() | RELEASED, time)) {
+            input.offerReserved(RELEASE_ALL, time);
+        }
+    }
+
+    public void requestCommand(GameCommand command) {
+        input.offer(COMMAND | command.ordinal(), System.nanoTime());
+    }
+
+    private void run() {
+        logicLoop.start(System.nanoTime());
+        while (running) {
+            input.drain(inputConsumer);
+            if (logicLoop.advance(System.nanoTime()) > 0) {
+                afterTicks.run();
+            }
+            long wait = logicLoop.getNextTickTime() - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    private void accept(int code, long time) {
+        if ((code & COMMAND) != 0) {
+            if (commands.test(COMMANDS[code & ~COMMAND])) {
+                logicLoop.start(System.nanoTime());
+            }
+        } else if (code == RELEASE_ALL) {
+            logicLoop.allKeysReleased(time);
+        } else if ((code & RELEASED) != 0) {
+            logicLoop.keyReleased(EVENT_TYPES[code & ~RELEASED], time);
+        } else {
+            logicLoop.keyPressed(EVENT_TYPES[code], time);
+        }
+    }
+}
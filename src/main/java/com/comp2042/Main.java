@@ -1,5 +1,6 @@
 package com.comp2042;
 
+import com.comp2042.logic.metrics.MetricsDumper;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -25,6 +26,7 @@ public class Main extends Application {
         primaryStage.setScene(scene);
         primaryStage.show();
         new GameController(c);
+        MetricsDumper.startFromSystemProperties();
     }
 
 
@@ -1,5 +1,7 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.BrickShape;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -27,6 +29,19 @@ public class MatrixOperations {
         return false;
     }
 
+    public static boolean intersect(final int[][] matrix, final BrickShape brick, int x, int y) {
+        for (int i = 0; i < brick.getHeight(); i++) {
+            for (int j = 0; j < brick.getWidth(); j++) {
+                int targetX = x + j;
+                int targetY = y + i;
+                if (brick.getCell(i, j) != 0 && (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         boolean returnValue = true;
         if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
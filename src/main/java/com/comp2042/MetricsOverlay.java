@@ -0,0 +1,49 @@
+package com.comp2042;
+
+import com.comp2042.logic.metrics.GameMetrics;
+import com.comp2042.logic.metrics.LatencyHistogram;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Locale;
+
+public class MetricsOverlay extends Text {
+
+    private static final long REFRESH_NANOS = 250_000_000L;
+
+    private long lastRefresh;
+
+    public MetricsOverlay() {
+        setFill(Color.LIGHTGREEN);
+        setFont(Font.font("Monospaced", 9));
+        setMouseTransparent(true);
+        setVisible(false);
+    }
+
+    public void toggle() {
+        setVisible(GameMetrics.ENABLED && !isVisible());
+        lastRefresh = 0;
+    }
+
+    public void refresh(long now) {
+        if (!isVisible() || now - lastRefresh < REFRESH_NANOS) {
+            return;
+        }
+        lastRefresh = now;
+        StringBuilder builder = new StringBuilder();
+        for (GameMetrics.Metric metric : GameMetrics.Metric.values()) {
+            LatencyHistogram histogram = GameMetrics.getHistogram(metric);
+            builder.append(String.format(Locale.ROOT, "%-18s %8s %8s%n", metric.name(),
+                    format(histogram.getPercentile(50), metric), format(histogram.getPercentile(99), metric)));
+        }
+        setText(builder.toString());
+    }
+
+    private static String format(long value, GameMetrics.Metric metric) {
+        if (!"ns".equals(metric.getUnit())) {
+            return value + "B";
+        }
+        return String.format(Locale.ROOT, "%.1fus", value / 1000.0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+//Immutable version of a board's cells. Row arrays are never written after they are built, so versions share every
+//row that did not change: update diffs the live matrix against this version and only copies rows that have no
+//equal row here, and every empty row is the same array. A lock therefore allocates the rows it touched and a new
+//row index instead of a deep copy of the grid. Rows moved by line clears or garbage are found again within a few
+//rows of their old place and stay shared.
+public final class PersistentBoard {
+
+    //Furthest a row can move in one lock, four cleared lines or eight garbage lines
+    private static final int MAX_SHIFT = 8;
+
+    private final int[][] rows;
+    private final int[] emptyRow;
+
+    private PersistentBoard(int[][] rows, int[] emptyRow) {
+        this.rows = rows;
+        this.emptyRow = emptyRow;
+    }
+
+    public static PersistentBoard of(int[][] matrix) {
+        PersistentBoard empty = new PersistentBoard(new int[matrix.length][], new int[matrix[0].length]);
+        Arrays.fill(empty.rows, empty.emptyRow);
+        return empty.update(matrix);
+    }
+
+    //Returns this version when matrix holds the same cells
+    public PersistentBoard update(int[][] matrix) {
+        int[][] next = null;
+        int shift = 0;
+        for (int i = rows.length - 1; i >= 0; i--) {
+            int[] row = matrix[i];
+            int[] shared = null;
+            if (isEmpty(row)) {
+                shared = emptyRow;
+            } else if (i - shift >= 0 && i - shift < rows.length && Arrays.equals(rows[i - shift], row)) {
+                shared = rows[i - shift];
+            } else {
+                int last = Math.min(rows.length - 1, i + MAX_SHIFT);
+                for (int j = Math.max(0, i - MAX_SHIFT); j <= last && shared == null; j++) {
+                    if (Arrays.equals(rows[j], row)) {
+                        shared = rows[j];
+                        shift = i - j;
+                    }
+                }
+            }
+            if (shared == null) {
+                shared = Arrays.copyOf(row, row.length);
+            }
+            if (next == null && shared != rows[i]) {
+                next = new int[rows.length][];
+                System.arraycopy(rows, i + 1, next, i + 1, rows.length - i - 1);
+            }
+            if (next != null) {
+                next[i] = shared;
+            }
+        }
+        return next == null ? this : new PersistentBoard(next, emptyRow);
+    }
+
+    private static boolean isEmpty(int[] row) {
+        for (int cell : row) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //Shared with other versions and with snapshots, never write to these arrays
+    public int[][] getRows() {
+        return rows;
+    }
+
+    //The rows in the layout of BoardState
+    void writeRows(ByteBuffer buffer) {
+        for (int[] row : rows) {
+            if (row == emptyRow) {
+                BoardState.writeEmptyRow(buffer, row.length);
+            } else {
+                BoardState.writeRow(buffer, row);
+            }
+        }
+    }
+}
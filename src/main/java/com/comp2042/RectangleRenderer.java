@@ -0,0 +1,97 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+
+//Keeps what is on screen and only pushes changed cells into the scene graph
+public class RectangleRenderer implements GameRenderer {
+
+    private static final int BRICK_SIZE = 20;
+    private static final int ARC_SIZE = 9;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+
+    private Rectangle[][] displayMatrix;
+    private int[][] displayedBoard;
+
+    private Rectangle[][] rectangles;
+    private int[][] displayedBrick;
+    private int displayedX;
+    private int displayedY;
+
+    public RectangleRenderer(GridPane gamePanel, GridPane brickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        displayedBoard = new int[boardMatrix.length][boardMatrix[0].length];
+        for (int i = 2; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle rectangle = createRectangle(0);
+                displayMatrix[i][j] = rectangle;
+                gamePanel.add(rectangle, j, i - 2);
+            }
+        }
+
+        BrickShape brickData = brick.getBrickData();
+        rectangles = new Rectangle[brickData.getHeight()][brickData.getWidth()];
+        displayedBrick = new int[brickData.getHeight()][brickData.getWidth()];
+        for (int i = 0; i < brickData.getHeight(); i++) {
+            for (int j = 0; j < brickData.getWidth(); j++) {
+                Rectangle rectangle = createRectangle(brickData.getCell(i, j));
+                displayedBrick[i][j] = brickData.getCell(i, j);
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+            }
+        }
+        moveBrickPanel(brick.getxPosition(), brick.getyPosition());
+    }
+
+    private Rectangle createRectangle(int color) {
+        Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+        rectangle.setFill(BrickColors.getFillColor(color));
+        rectangle.setArcHeight(ARC_SIZE);
+        rectangle.setArcWidth(ARC_SIZE);
+        return rectangle;
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        if (brick.getxPosition() != displayedX || brick.getyPosition() != displayedY) {
+            moveBrickPanel(brick.getxPosition(), brick.getyPosition());
+        }
+        BrickShape brickData = brick.getBrickData();
+        for (int i = 0; i < brickData.getHeight(); i++) {
+            for (int j = 0; j < brickData.getWidth(); j++) {
+                if (displayedBrick[i][j] != brickData.getCell(i, j)) {
+                    displayedBrick[i][j] = brickData.getCell(i, j);
+                    rectangles[i][j].setFill(BrickColors.getFillColor(brickData.getCell(i, j)));
+                }
+            }
+        }
+    }
+
+    private void moveBrickPanel(int x, int y) {
+        displayedX = x;
+        displayedY = y;
+        brickPanel.setLayoutX(gamePanel.getLayoutX() + x * brickPanel.getVgap() + x * BRICK_SIZE);
+        brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + y * brickPanel.getHgap() + y * BRICK_SIZE);
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        for (int i = 2; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                if (displayedBoard[i][j] != board[i][j]) {
+                    displayedBoard[i][j] = board[i][j];
+                    displayMatrix[i][j].setFill(BrickColors.getFillColor(board[i][j]));
+                }
+            }
+        }
+    }
+}
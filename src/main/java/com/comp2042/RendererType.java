@@ -0,0 +1,23 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+
+import java.util.Locale;
+
+public enum RendererType {
+    RECTANGLES, CANVAS;
+
+    public GameRenderer create(GridPane gamePanel, GridPane brickPanel) {
+        switch (this) {
+            case CANVAS:
+                return new CanvasRenderer(gamePanel, brickPanel);
+            case RECTANGLES:
+            default:
+                return new RectangleRenderer(gamePanel, brickPanel);
+        }
+    }
+
+    public static RendererType fromSystemProperty() {
+        return valueOf(System.getProperty("tetris.renderer", RECTANGLES.name()).toUpperCase(Locale.ROOT));
+    }
+}
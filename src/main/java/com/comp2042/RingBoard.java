@@ -0,0 +1,291 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.Bricks;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.metrics.GameMetrics;
+
+import java.nio.ByteBuffer;
+
+//SimpleBoard rules over RowRing storage: collisions read cells through the ring and a clear only moves row
+//references on the shorter side of the cleared rows, so nothing rebuilds the matrix.
+public class RingBoard implements Board {
+
+    private final int width;
+    private final int height;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final RowRing rows;
+    private final int[] clearedRows;
+    private final int[] restoredRow;
+    private final ColumnHeights columnHeights;
+    private final RotationSystem rotationSystem;
+    private BrickMasks currentMasks;
+    private int mergedFrom;
+    private int mergedTo;
+    private int currentX;
+    private int currentY;
+    private final Score score;
+
+    public RingBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public RingBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(width, height, brickGenerator, RotationSystem.CLASSIC);
+    }
+
+    public RingBoard(int width, int height, BrickGenerator brickGenerator, RotationSystem rotationSystem) {
+        this.width = width;
+        this.height = height;
+        rows = new RowRing(width, height);
+        clearedRows = new int[width];
+        restoredRow = new int[height];
+        columnHeights = new ColumnHeights(width, height);
+        this.rotationSystem = rotationSystem;
+        resetMergedRows();
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return moveBrick(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return moveBrick(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return moveBrick(1, 0);
+    }
+
+    private boolean moveBrick(int dx, int dy) {
+        if (intersects(brickRotator.getCurrentShape(), currentX + dx, currentY + dy)) {
+            return false;
+        }
+        currentX += dx;
+        currentY += dy;
+        return true;
+    }
+
+    //Same test as MatrixOperations.intersect, reading the cells through the ring
+    private boolean intersects(BrickShape brick, int x, int y) {
+        for (int i = 0; i < brick.getHeight(); i++) {
+            for (int j = 0; j < brick.getWidth(); j++) {
+                if (brick.getCell(i, j) != 0) {
+                    int targetX = x + j;
+                    int targetY = y + i;
+                    if (targetX < 0 || targetX >= height || targetY < 0 || targetY >= width
+                            || rows.get(targetY, targetX) != 0) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int landingY = getLandingY();
+        int dropped = landingY - currentY;
+        currentY = landingY;
+        return dropped;
+    }
+
+    private int getLandingY() {
+        int landingY = columnHeights.landingY(currentMasks.getBottomProfile(brickRotator.getCurrentShapePosition()), currentX, currentY);
+        if (landingY >= 0) {
+            return landingY;
+        }
+        landingY = currentY;
+        while (!intersects(brickRotator.getCurrentShape(), currentX, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateBrick(brickRotator.getNextShapePosition(), RotationSystem.ROTATE_LEFT);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        return rotateBrick(brickRotator.getPreviousShapePosition(), RotationSystem.ROTATE_RIGHT);
+    }
+
+    //Takes the first kick offset where the rotated shape fits
+    private boolean rotateBrick(int nextShape, int direction) {
+        BrickShape shape = brickRotator.getShape(nextShape);
+        int[] kicks = currentMasks.getKicks(rotationSystem, brickRotator.getCurrentShapePosition(), direction);
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!intersects(shape, currentX + kicks[i], currentY + kicks[i + 1])) {
+                brickRotator.setCurrentShape(nextShape);
+                currentX += kicks[i];
+                currentY += kicks[i + 1];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentMasks = BrickMasks.of(currentBrick);
+        currentX = 4;
+        currentY = 10;
+        return intersects(brickRotator.getCurrentShape(), currentX, currentY);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return rows.view();
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, brickGenerator.getNextBrick().getShape(0), getLandingY());
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentShapePosition();
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape brick = brickRotator.getCurrentShape();
+        for (int i = 0; i < brick.getHeight(); i++) {
+            for (int j = 0; j < brick.getWidth(); j++) {
+                if (brick.getCell(i, j) != 0) {
+                    int targetY = currentY + i;
+                    rows.set(targetY, currentX + j, brick.getCell(i, j));
+                    columnHeights.place(targetY, currentX + j);
+                    mergedFrom = Math.min(mergedFrom, targetY);
+                    mergedTo = Math.max(mergedTo, targetY);
+                }
+            }
+        }
+    }
+
+    //Only rows touched by a merge since the last clear can have become full
+    @Override
+    public ClearRow clearRows() {
+        long start = GameMetrics.start();
+        int removed = 0;
+        for (int i = mergedFrom; i <= mergedTo; i++) {
+            if (rows.isFull(i)) {
+                clearedRows[removed++] = i;
+            }
+        }
+        if (removed > 0) {
+            rows.removeRows(clearedRows, removed);
+            columnHeights.recompute(rows.view());
+        }
+        resetMergedRows();
+        ClearRow clearRow = new ClearRow(removed, rows.view(), 50 * removed * removed);
+        GameMetrics.end(GameMetrics.Metric.CLEAR_ROWS, start);
+        return clearRow;
+    }
+
+    //Each garbage row is one head move in the ring
+    @Override
+    public boolean addGarbage(int lines, int holeColumn) {
+        lines = Math.min(lines, width);
+        boolean toppedOut = false;
+        for (int i = 0; i < lines; i++) {
+            toppedOut |= !rows.isEmpty(0);
+            rows.pushBottom();
+            for (int j = 0; j < height; j++) {
+                if (j != holeColumn) {
+                    rows.set(width - 1, j, GARBAGE_COLOR);
+                }
+            }
+        }
+        if (lines > 0) {
+            columnHeights.recompute(rows.view());
+        }
+        return toppedOut;
+    }
+
+    private void resetMergedRows() {
+        mergedFrom = width;
+        mergedTo = -1;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        rows.clear();
+        columnHeights.reset();
+        resetMergedRows();
+        score.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    @Override
+    public int getStateSize() {
+        return BoardState.size(width, height, brickGenerator);
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        brickGenerator.writeState(buffer);
+        int[][] view = rows.view();
+        for (int i = 0; i < width; i++) {
+            if (rows.isEmpty(i)) {
+                BoardState.writeEmptyRow(buffer, height);
+            } else {
+                BoardState.writeRow(buffer, view[i]);
+            }
+        }
+        BoardState.writeBrick(buffer, brickRotator.getBrick(), brickRotator.getCurrentShapePosition(), currentX, currentY, score);
+    }
+
+    //The head stays wherever it is, rows are copied in board order
+    @Override
+    public void readState(ByteBuffer buffer) {
+        brickGenerator.readState(buffer);
+        for (int i = 0; i < width; i++) {
+            rows.setRow(i, restoredRow, BoardState.readRow(buffer, restoredRow));
+        }
+        columnHeights.recompute(rows.view());
+        resetMergedRows();
+        Brick brick = Bricks.get(buffer.get());
+        brickRotator.setBrick(brick);
+        brickRotator.setCurrentShape(buffer.get());
+        currentMasks = BrickMasks.of(brick);
+        currentX = buffer.get();
+        currentY = buffer.get();
+        BoardState.readScore(buffer, score);
+    }
+
+    @Override
+    public void checkState(ByteBuffer buffer, int offset) {
+        BoardState.check(buffer, offset, width, height, brickGenerator);
+    }
+}
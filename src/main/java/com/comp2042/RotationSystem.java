@@ -0,0 +1,90 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Bricks;
+
+import java.util.Locale;
+
+public enum RotationSystem {
+    CLASSIC, SRS;
+
+    //Direction indexes into a kick table, ROTATE_LEFT steps to the next shape like rotateLeftBrick
+    public static final int ROTATE_LEFT = 0;
+    public static final int ROTATE_RIGHT = 1;
+
+    private static final int[] NO_KICK = {0, 0};
+
+    //Standard SRS offsets as (x, y) with y pointing up, indexed by the SRS state rotated from and to (0, R, 2, L)
+    private static final int[][][] JLSTZ_KICKS = new int[4][4][];
+    private static final int[][][] I_KICKS = new int[4][4][];
+
+    static {
+        JLSTZ_KICKS[0][1] = new int[]{0, 0, -1, 0, -1, 1, 0, -2, -1, -2};
+        JLSTZ_KICKS[1][0] = new int[]{0, 0, 1, 0, 1, -1, 0, 2, 1, 2};
+        JLSTZ_KICKS[1][2] = new int[]{0, 0, 1, 0, 1, -1, 0, 2, 1, 2};
+        JLSTZ_KICKS[2][1] = new int[]{0, 0, -1, 0, -1, 1, 0, -2, -1, -2};
+        JLSTZ_KICKS[2][3] = new int[]{0, 0, 1, 0, 1, 1, 0, -2, 1, -2};
+        JLSTZ_KICKS[3][2] = new int[]{0, 0, -1, 0, -1, -1, 0, 2, -1, 2};
+        JLSTZ_KICKS[3][0] = new int[]{0, 0, -1, 0, -1, -1, 0, 2, -1, 2};
+        JLSTZ_KICKS[0][3] = new int[]{0, 0, 1, 0, 1, 1, 0, -2, 1, -2};
+
+        I_KICKS[0][1] = new int[]{0, 0, -2, 0, 1, 0, -2, -1, 1, 2};
+        I_KICKS[1][0] = new int[]{0, 0, 2, 0, -1, 0, 2, 1, -1, -2};
+        I_KICKS[1][2] = new int[]{0, 0, -1, 0, 2, 0, -1, 2, 2, -1};
+        I_KICKS[2][1] = new int[]{0, 0, 1, 0, -2, 0, 1, -2, -2, 1};
+        I_KICKS[2][3] = new int[]{0, 0, 2, 0, -1, 0, 2, 1, -1, -2};
+        I_KICKS[3][2] = new int[]{0, 0, -2, 0, 1, 0, -2, -1, 1, 2};
+        I_KICKS[3][0] = new int[]{0, 0, 1, 0, -2, 0, 1, -2, -2, 1};
+        I_KICKS[0][3] = new int[]{0, 0, -1, 0, 2, 0, -1, 2, 2, -1};
+    }
+
+    //SRS state of shape 0 and the SRS state step of going to the next shape, in Bricks order I, J, L, O, S, T, Z.
+    //The shape tables do not all turn the same way, J and T step counterclockwise while L steps clockwise.
+    private static final int[] SRS_FIRST_STATE = {0, 2, 2, 0, 2, 2, 2};
+    private static final int[] SRS_STEP = {-1, -1, 1, 0, 1, -1, 1};
+    private static final int I_INDEX = 0;
+
+    //Offsets to try in order as flattened (dx, dy) board pairs, indexed by [rotation][direction]
+    public int[][][] createKicks(Brick brick) {
+        int rotations = brick.getRotationCount();
+        int[][][] kicks = new int[rotations][2][];
+        int index = Bricks.indexOf(brick);
+        for (int r = 0; r < rotations; r++) {
+            for (int direction = ROTATE_LEFT; direction <= ROTATE_RIGHT; direction++) {
+                switch (this) {
+                    case SRS:
+                        kicks[r][direction] = index < 0 || SRS_STEP[index] == 0
+                                ? NO_KICK : srsKicks(index, r, Math.floorMod(r + (direction == ROTATE_LEFT ? 1 : -1), rotations));
+                        break;
+                    case CLASSIC:
+                    default:
+                        kicks[r][direction] = NO_KICK;
+                        break;
+                }
+            }
+        }
+        return kicks;
+    }
+
+    //I, S and Z only have two shapes, so the shape rotated to is not always one step on from the state rotated from:
+    //turning from the second shape back to the first lands in the state of the first shape
+    private static int[] srsKicks(int index, int rotation, int nextRotation) {
+        int from = srsState(index, rotation);
+        int to = srsState(index, nextRotation);
+        int[] offsets = (index == I_INDEX ? I_KICKS : JLSTZ_KICKS)[from][to];
+        int[] kicks = new int[offsets.length];
+        for (int i = 0; i < offsets.length; i += 2) {
+            kicks[i] = offsets[i];
+            kicks[i + 1] = -offsets[i + 1];
+        }
+        return kicks;
+    }
+
+    private static int srsState(int index, int rotation) {
+        return Math.floorMod(SRS_FIRST_STATE[index] + SRS_STEP[index] * rotation, 4);
+    }
+
+    public static RotationSystem fromSystemProperty() {
+        return valueOf(System.getProperty("tetris.rotation", CLASSIC.name()).toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,161 @@
+package com.comp2042;
+
+import java.util.Arrays;
+
+//Board rows kept in a circular buffer behind a head index, row 0 being the top. Clearing rows compacts whichever
+//side of the cleared rows is shorter and rotates the head over the rest, and pushing a row in from the bottom is a
+//single head move, so no cell data is ever copied. The int[][] view holds the same row arrays in board order and is
+//only rebuilt when a reader asks for it after the order changed.
+public class RowRing {
+
+    private final int rows;
+    private final int columns;
+    private final int[][] storage;
+    private final int[] fill;
+    private final int[][] view;
+    private final int[][] removed;
+    private boolean viewStale;
+    private int head;
+
+    public RowRing(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        storage = new int[rows][columns];
+        fill = new int[rows];
+        view = new int[rows][];
+        removed = new int[rows][];
+        viewStale = true;
+    }
+
+    private int physical(int row) {
+        int index = head + row;
+        return index >= rows ? index - rows : index;
+    }
+
+    public int get(int row, int column) {
+        return storage[physical(row)][column];
+    }
+
+    public void set(int row, int column, int value) {
+        int index = physical(row);
+        int[] cells = storage[index];
+        if (cells[column] == 0 && value != 0) {
+            fill[index]++;
+        } else if (cells[column] != 0 && value == 0) {
+            fill[index]--;
+        }
+        cells[column] = value;
+    }
+
+    //Copies a whole row in, filled being its number of filled cells
+    public void setRow(int row, int[] cells, int filled) {
+        int index = physical(row);
+        System.arraycopy(cells, 0, storage[index], 0, columns);
+        fill[index] = filled;
+    }
+
+    public boolean isFull(int row) {
+        return fill[physical(row)] == columns;
+    }
+
+    public boolean isEmpty(int row) {
+        return fill[physical(row)] == 0;
+    }
+
+    //Removes count rows given in increasing order and inserts as many empty rows at the top
+    public void removeRows(int[] cleared, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (rows - cleared[0] < cleared[count - 1] + 1) {
+            compactUp(cleared, count);
+        } else {
+            compactDown(cleared, count);
+        }
+        viewStale = true;
+    }
+
+    //Moves the rows below the first cleared row up over the gaps, the cleared rows end up at the bottom and the
+    //head steps back over them so they become the top
+    private void compactUp(int[] cleared, int count) {
+        int next = 0;
+        int target = cleared[0];
+        for (int row = cleared[0]; row < rows; row++) {
+            int index = physical(row);
+            if (next < count && cleared[next] == row) {
+                removed[next++] = storage[index];
+            } else {
+                int targetIndex = physical(target++);
+                storage[targetIndex] = storage[index];
+                fill[targetIndex] = fill[index];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int index = physical(target++);
+            Arrays.fill(removed[i], 0);
+            storage[index] = removed[i];
+            fill[index] = 0;
+            removed[i] = null;
+        }
+        head = physical(rows - count);
+    }
+
+    //Moves the rows above the last cleared row down over the gaps and reuses the cleared rows at the top
+    private void compactDown(int[] cleared, int count) {
+        int next = count - 1;
+        int target = cleared[count - 1];
+        for (int row = cleared[count - 1]; row >= 0; row--) {
+            int index = physical(row);
+            if (next >= 0 && cleared[next] == row) {
+                removed[next--] = storage[index];
+            } else {
+                int targetIndex = physical(target--);
+                storage[targetIndex] = storage[index];
+                fill[targetIndex] = fill[index];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int index = physical(i);
+            Arrays.fill(removed[i], 0);
+            storage[index] = removed[i];
+            fill[index] = 0;
+            removed[i] = null;
+        }
+    }
+
+    //Drops the top row and reuses it as an empty bottom row for the caller to fill with set. Check isEmpty(0)
+    //first to tell whether the dropped row held any cells.
+    public void pushBottom() {
+        int index = head;
+        Arrays.fill(storage[index], 0);
+        fill[index] = 0;
+        head = physical(1);
+        viewStale = true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < rows; i++) {
+            Arrays.fill(storage[i], 0);
+            fill[i] = 0;
+        }
+    }
+
+    //Rows in board order; the arrays are live, so writes must go through set to keep the fill counts right
+    public int[][] view() {
+        if (viewStale) {
+            for (int i = 0; i < rows; i++) {
+                view[i] = storage[physical(i)];
+            }
+            viewStale = false;
+        }
+        return view;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -1,21 +1,18 @@
 package com.comp2042;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
 
-    public IntegerProperty scoreProperty() {
+    public int getValue() {
         return score;
     }
 
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        score += i;
     }
 
     public void reset() {
-        score.setValue(0);
+        score = 0;
     }
 }
@@ -0,0 +1,53 @@
+package com.comp2042;
+
+import com.comp2042.logic.metrics.LatencyHistogram;
+import com.comp2042.logic.server.GameServer;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+//Headless game server for remote clients, e.g.
+//java -cp target/classes com.comp2042.ServerMain --port=7420 --gravityMs=400
+public class ServerMain {
+
+    private static final int BOARD_WIDTH = 25;
+    private static final int BOARD_HEIGHT = 10;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 7420;
+        long gravityMs = 400;
+        long seed = 1;
+        int statsSeconds = 10;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--gravityMs=")) {
+                gravityMs = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--statsSeconds=")) {
+                statsSeconds = Integer.parseInt(value(arg));
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+
+        GameServer server = new GameServer(BoardType.fromSystemProperty(), BOARD_WIDTH, BOARD_HEIGHT,
+                RotationSystem.fromSystemProperty(), seed, TimeUnit.MILLISECONDS.toNanos(gravityMs));
+        server.start(port);
+        System.out.printf(Locale.ROOT, "listening on 127.0.0.1:%d, gravity %d ms%n", server.getPort(), gravityMs);
+        while (true) {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(statsSeconds));
+            LatencyHistogram tickLatency = server.getTickLatency();
+            System.out.printf(Locale.ROOT, "%d sessions, %d ticks, tick latency p50 %.2f ms p99 %.2f ms%n",
+                    server.getSessionCount(), tickLatency.getCount(), tickLatency.getPercentile(50) / 1e6,
+                    tickLatency.getPercentile(99) / 1e6);
+            server.resetTickLatency();
+        }
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
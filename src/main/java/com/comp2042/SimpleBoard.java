@@ -2,9 +2,13 @@ package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.Bricks;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.metrics.GameMetrics;
 
-import java.awt.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 public class SimpleBoard implements Board {
 
@@ -12,81 +16,120 @@ public class SimpleBoard implements Board {
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    private final int[][] currentGameMatrix;
+    private final int[] rowFill;
+    private final int[][] clearedRows;
+    private final ColumnHeights columnHeights;
+    private final RotationSystem rotationSystem;
+    private BrickMasks currentMasks;
+    private int mergedFrom;
+    private int mergedTo;
+    private int currentX;
+    private int currentY;
     private final Score score;
 
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(width, height, brickGenerator, RotationSystem.CLASSIC);
+    }
+
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator, RotationSystem rotationSystem) {
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowFill = new int[width];
+        clearedRows = new int[width][];
+        columnHeights = new ColumnHeights(width, height);
+        this.rotationSystem = rotationSystem;
+        resetMergedRows();
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return moveBrick(0, 1);
     }
 
 
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return moveBrick(-1, 0);
     }
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        return moveBrick(1, 0);
+    }
+
+    private boolean moveBrick(int dx, int dy) {
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), currentX + dx, currentY + dy);
         if (conflict) {
             return false;
         } else {
-            currentOffset = p;
+            currentX += dx;
+            currentY += dy;
             return true;
         }
     }
 
+    @Override
+    public int hardDropBrick() {
+        int landingY = getLandingY();
+        int rows = landingY - currentY;
+        currentY = landingY;
+        return rows;
+    }
+
+    private int getLandingY() {
+        int landingY = columnHeights.landingY(currentMasks.getBottomProfile(brickRotator.getCurrentShapePosition()), currentX, currentY);
+        if (landingY >= 0) {
+            return landingY;
+        }
+        landingY = currentY;
+        while (!MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), currentX, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (conflict) {
-            return false;
-        } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
+        return rotateBrick(brickRotator.getNextShapePosition(), RotationSystem.ROTATE_LEFT);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        return rotateBrick(brickRotator.getPreviousShapePosition(), RotationSystem.ROTATE_RIGHT);
+    }
+
+    //Takes the first kick offset where the rotated shape fits
+    private boolean rotateBrick(int nextShape, int direction) {
+        BrickShape shape = brickRotator.getShape(nextShape);
+        int[] kicks = currentMasks.getKicks(rotationSystem, brickRotator.getCurrentShapePosition(), direction);
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!MatrixOperations.intersect(currentGameMatrix, shape, currentX + kicks[i], currentY + kicks[i + 1])) {
+                brickRotator.setCurrentShape(nextShape);
+                currentX += kicks[i];
+                currentY += kicks[i + 1];
+                return true;
+            }
         }
+        return false;
     }
 
     @Override
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(4, 10);
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        currentMasks = BrickMasks.of(currentBrick);
+        currentX = 4;
+        currentY = 10;
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), currentX, currentY);
     }
 
     @Override
@@ -96,20 +139,98 @@ public class SimpleBoard implements Board {
 
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), brickGenerator.getNextBrick().getShapeMatrix().get(0));
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, brickGenerator.getNextBrick().getShape(0), getLandingY());
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentShapePosition();
     }
 
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        BrickShape brick = brickRotator.getCurrentShape();
+        for (int i = 0; i < brick.getHeight(); i++) {
+            for (int j = 0; j < brick.getWidth(); j++) {
+                if (brick.getCell(i, j) != 0) {
+                    int targetY = currentY + i;
+                    int[] row = currentGameMatrix[targetY];
+                    if (row[currentX + j] == 0) {
+                        rowFill[targetY]++;
+                    }
+                    row[currentX + j] = brick.getCell(i, j);
+                    columnHeights.place(targetY, currentX + j);
+                    mergedFrom = Math.min(mergedFrom, targetY);
+                    mergedTo = Math.max(mergedTo, targetY);
+                }
+            }
+        }
     }
 
+    //Only rows touched by a merge since the last clear can have become full
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
+        long start = GameMetrics.start();
+        int removed = 0;
+        for (int i = mergedTo; i >= 0; i--) {
+            if (i >= mergedFrom && rowFill[i] == height) {
+                clearedRows[removed++] = currentGameMatrix[i];
+            } else if (removed > 0) {
+                currentGameMatrix[i + removed] = currentGameMatrix[i];
+                rowFill[i + removed] = rowFill[i];
+            } else if (i < mergedFrom) {
+                break;
+            }
+        }
+        for (int i = 0; i < removed; i++) {
+            Arrays.fill(clearedRows[i], 0);
+            currentGameMatrix[i] = clearedRows[i];
+            rowFill[i] = 0;
+            clearedRows[i] = null;
+        }
+        if (removed > 0) {
+            columnHeights.recompute(currentGameMatrix);
+        }
+        resetMergedRows();
+        ClearRow clearRow = new ClearRow(removed, currentGameMatrix, 50 * removed * removed);
+        GameMetrics.end(GameMetrics.Metric.CLEAR_ROWS, start);
         return clearRow;
+    }
 
+    //Rows pushed out of the top are reused as the garbage rows, so only row references move
+    @Override
+    public boolean addGarbage(int lines, int holeColumn) {
+        lines = Math.min(lines, width);
+        if (lines <= 0) {
+            return false;
+        }
+        boolean toppedOut = false;
+        for (int i = 0; i < lines; i++) {
+            toppedOut |= rowFill[i] > 0;
+            clearedRows[i] = currentGameMatrix[i];
+        }
+        System.arraycopy(currentGameMatrix, lines, currentGameMatrix, 0, width - lines);
+        System.arraycopy(rowFill, lines, rowFill, 0, width - lines);
+        for (int i = 0; i < lines; i++) {
+            int[] row = clearedRows[i];
+            Arrays.fill(row, GARBAGE_COLOR);
+            row[holeColumn] = 0;
+            currentGameMatrix[width - lines + i] = row;
+            rowFill[width - lines + i] = height - 1;
+            clearedRows[i] = null;
+        }
+        columnHeights.recompute(currentGameMatrix);
+        return toppedOut;
+    }
+
+    private void resetMergedRows() {
+        mergedFrom = width;
+        mergedTo = -1;
     }
 
     @Override
@@ -120,8 +241,58 @@ public class SimpleBoard implements Board {
 
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFill, 0);
+        columnHeights.reset();
+        resetMergedRows();
         score.reset();
         createNewBrick();
     }
+
+    @Override
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    @Override
+    public int getStateSize() {
+        return BoardState.size(width, height, brickGenerator);
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        brickGenerator.writeState(buffer);
+        for (int i = 0; i < width; i++) {
+            if (rowFill[i] == 0) {
+                BoardState.writeEmptyRow(buffer, height);
+            } else {
+                BoardState.writeRow(buffer, currentGameMatrix[i]);
+            }
+        }
+        BoardState.writeBrick(buffer, brickRotator.getBrick(), brickRotator.getCurrentShapePosition(), currentX, currentY, score);
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        brickGenerator.readState(buffer);
+        for (int i = 0; i < width; i++) {
+            rowFill[i] = BoardState.readRow(buffer, currentGameMatrix[i]);
+        }
+        columnHeights.recompute(currentGameMatrix);
+        resetMergedRows();
+        Brick brick = Bricks.get(buffer.get());
+        brickRotator.setBrick(brick);
+        brickRotator.setCurrentShape(buffer.get());
+        currentMasks = BrickMasks.of(brick);
+        currentX = buffer.get();
+        currentY = buffer.get();
+        BoardState.readScore(buffer, score);
+    }
+
+    @Override
+    public void checkState(ByteBuffer buffer, int offset) {
+        BoardState.check(buffer, offset, width, height, brickGenerator);
+    }
 }
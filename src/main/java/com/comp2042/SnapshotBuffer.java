@@ -0,0 +1,29 @@
+package com.comp2042;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+//Double buffer between the thread running the game logic and the FX pulse. The logic side fills the back slot
+//with an immutable snapshot and the FX side swaps it to the front, a single atomic exchange on each side. When
+//the logic publishes faster than frames are drawn the skipped snapshots are simply replaced.
+public final class SnapshotBuffer {
+
+    private final AtomicReference<GameSnapshot> back = new AtomicReference<>();
+    private GameSnapshot front;
+
+    public void publish(GameSnapshot snapshot) {
+        back.set(snapshot);
+    }
+
+    //Returns the newest snapshot, or null when nothing was published since the last swap
+    public GameSnapshot swap() {
+        GameSnapshot next = back.getAndSet(null);
+        if (next != null) {
+            front = next;
+        }
+        return next;
+    }
+
+    public GameSnapshot getFront() {
+        return front;
+    }
+}
@@ -0,0 +1,56 @@
+package com.comp2042;
+
+public final class TimingConfig {
+
+    private final int logicHz;
+    private final int gravityMs;
+    private final int dasMs;
+    private final int arrMs;
+    private final int softDropMs;
+
+    public TimingConfig(int logicHz, int gravityMs, int dasMs, int arrMs, int softDropMs) {
+        this.logicHz = logicHz;
+        this.gravityMs = gravityMs;
+        this.dasMs = dasMs;
+        this.arrMs = arrMs;
+        this.softDropMs = softDropMs;
+    }
+
+    public static TimingConfig fromSystemProperties() {
+        return new TimingConfig(
+                Integer.getInteger("tetris.logicHz", 60),
+                Integer.getInteger("tetris.gravityMs", 400),
+                Integer.getInteger("tetris.dasMs", 170),
+                Integer.getInteger("tetris.arrMs", 50),
+                Integer.getInteger("tetris.softDropMs", 50));
+    }
+
+    public int getLogicHz() {
+        return logicHz;
+    }
+
+    public long getTickNanos() {
+        return 1_000_000_000L / logicHz;
+    }
+
+    public int getGravityTicks() {
+        return Math.max(1, toTicks(gravityMs));
+    }
+
+    public int getDasTicks() {
+        return toTicks(dasMs);
+    }
+
+    //0 means auto repeat moves the brick as far as it can go in a single tick
+    public int getArrTicks() {
+        return toTicks(arrMs);
+    }
+
+    public int getSoftDropTicks() {
+        return Math.max(1, toTicks(softDropMs));
+    }
+
+    private int toTicks(int millis) {
+        return (int) Math.round(millis * logicHz / 1000.0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042;
+
+import com.comp2042.logic.tournament.GameResult;
+import com.comp2042.logic.tournament.RunningStatistics;
+import com.comp2042.logic.tournament.Strategy;
+import com.comp2042.logic.tournament.Tournament;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+//Headless bot tournament, e.g.
+//java -cp target/classes com.comp2042.TournamentMain --seeds=1000 --csv=results.csv greedy:GREEDY deep:EXPECTIMAX:2
+public class TournamentMain {
+
+    private static final int BOARD_WIDTH = 25;
+    private static final int BOARD_HEIGHT = 10;
+
+    public static void main(String[] args) throws IOException {
+        int seeds = 100;
+        long firstSeed = 1;
+        long maxPieces = 10_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String csv = "tournament.csv";
+        List<Strategy> strategies = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--seeds=")) {
+                seeds = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--firstSeed=")) {
+                firstSeed = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--maxPieces=")) {
+                maxPieces = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--csv=")) {
+                csv = value(arg);
+            } else {
+                strategies.add(Strategy.parse(arg));
+            }
+        }
+        if (strategies.isEmpty()) {
+            strategies.add(Strategy.parse("greedy:GREEDY"));
+            strategies.add(Strategy.parse("expectimax:EXPECTIMAX:2"));
+        }
+
+        Map<String, RunningStatistics[]> statistics = new LinkedHashMap<>();
+        for (Strategy strategy : strategies) {
+            statistics.put(strategy.getName(), new RunningStatistics[]{
+                    new RunningStatistics(), new RunningStatistics(), new RunningStatistics(), new RunningStatistics()});
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        Tournament tournament = new Tournament(strategies, firstSeed, seeds, maxPieces, BoardType.BITBOARD,
+                BOARD_WIDTH, BOARD_HEIGHT, pool);
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(csv))) {
+            writer.write(GameResult.CSV_HEADER);
+            writer.newLine();
+            tournament.run(result -> {
+                RunningStatistics[] stats = statistics.get(result.getStrategy());
+                stats[0].add(result.getLines());
+                stats[1].add(result.getScore());
+                stats[2].add(result.getPieces());
+                stats[3].add(result.getMicrosPerPiece());
+                synchronized (writer) {
+                    try {
+                        writer.write(result.toCsv());
+                        writer.newLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf(Locale.ROOT, "%d games on %d threads in %.1f s, results in %s%n",
+                strategies.size() * seeds, threads, seconds, csv);
+        System.out.printf(Locale.ROOT, "%-16s %22s %22s %22s %12s%n", "strategy", "lines (95% CI)", "score (95% CI)",
+                "pieces (95% CI)", "us/piece");
+        for (Map.Entry<String, RunningStatistics[]> entry : statistics.entrySet()) {
+            RunningStatistics[] stats = entry.getValue();
+            System.out.printf(Locale.ROOT, "%-16s %22s %22s %22s %12.1f%n", entry.getKey(), interval(stats[0]),
+                    interval(stats[1]), interval(stats[2]), stats[3].getMean());
+        }
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    private static String interval(RunningStatistics statistics) {
+        return String.format(Locale.ROOT, "%.1f +- %.1f", statistics.getMean(), statistics.getConfidenceHalfWidth());
+    }
+}
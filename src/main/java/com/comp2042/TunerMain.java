@@ -0,0 +1,95 @@
+package com.comp2042;
+
+import com.comp2042.logic.ai.HeuristicWeights;
+import com.comp2042.logic.tournament.Strategy;
+import com.comp2042.logic.tuning.TunerState;
+import com.comp2042.logic.tuning.WeightTuner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+//Evolves AI heuristic weights, resuming from the checkpoint file when it exists, e.g.
+//java -cp target/classes com.comp2042.TunerMain --generations=50 --population=64 --elite=16 --games=8
+public class TunerMain {
+
+    private static final int BOARD_WIDTH = 25;
+    private static final int BOARD_HEIGHT = 10;
+
+    public static void main(String[] args) throws IOException {
+        int generations = 30;
+        int population = 48;
+        int elite = 12;
+        int games = 8;
+        long maxPieces = 2_000;
+        long seed = 1;
+        double sigma = 0.5;
+        double noise = 0.1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String strategy = "tuned:GREEDY";
+        Path checkpoint = Paths.get("tuner.properties");
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--generations=")) {
+                generations = Integer.parseInt(value);
+            } else if (arg.startsWith("--population=")) {
+                population = Integer.parseInt(value);
+            } else if (arg.startsWith("--elite=")) {
+                elite = Integer.parseInt(value);
+            } else if (arg.startsWith("--games=")) {
+                games = Integer.parseInt(value);
+            } else if (arg.startsWith("--maxPieces=")) {
+                maxPieces = Long.parseLong(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--sigma=")) {
+                sigma = Double.parseDouble(value);
+            } else if (arg.startsWith("--noise=")) {
+                noise = Double.parseDouble(value);
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value);
+            } else if (arg.startsWith("--strategy=")) {
+                strategy = value;
+            } else if (arg.startsWith("--checkpoint=")) {
+                checkpoint = Paths.get(value);
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+
+        TunerState state;
+        if (Files.exists(checkpoint)) {
+            state = TunerState.load(checkpoint);
+            System.out.println("Resuming from generation " + state.getGeneration() + " in " + checkpoint);
+        } else {
+            double[] mean = HeuristicWeights.DEFAULT.toArray();
+            double[] sigmas = new double[mean.length];
+            Arrays.fill(sigmas, sigma);
+            state = new TunerState(mean, sigmas);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        WeightTuner tuner = new WeightTuner(Strategy.parse(strategy), population, elite, games, maxPieces, seed, noise,
+                BoardType.BITBOARD, BOARD_WIDTH, BOARD_HEIGHT, pool);
+        try {
+            while (state.getGeneration() < generations) {
+                long start = System.nanoTime();
+                tuner.runGeneration(state);
+                state.save(checkpoint);
+                double[] fitness = state.getFitness();
+                System.out.printf(Locale.ROOT, "generation %d: mean fitness %.1f, best %.1f, mean weights %s (%.1f s)%n",
+                        state.getGeneration(), Arrays.stream(fitness).average().orElse(0),
+                        Arrays.stream(fitness).max().orElse(0), HeuristicWeights.fromArray(state.getMean()),
+                        (System.nanoTime() - start) / 1e9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        System.out.println("Best weights " + HeuristicWeights.fromArray(state.getBestWeights())
+                + " with fitness " + state.getBestFitness());
+    }
+}
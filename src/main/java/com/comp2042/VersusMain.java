@@ -0,0 +1,108 @@
+package com.comp2042;
+
+import com.comp2042.logic.ai.MovePlanner;
+import com.comp2042.logic.tournament.RunningStatistics;
+import com.comp2042.logic.tournament.Strategy;
+import com.comp2042.logic.versus.MatchResult;
+import com.comp2042.logic.versus.VersusMatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+//Headless versus matches between bot strategies for balancing, e.g.
+//java -cp target/classes com.comp2042.VersusMain --matches=10000 --delay=20 greedy:GREEDY deep:EXPECTIMAX:1
+public class VersusMain {
+
+    private static final int BOARD_WIDTH = 25;
+    private static final int BOARD_HEIGHT = 10;
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int matches = 1000;
+        long firstSeed = 1;
+        long maxPieces = 1000;
+        long delay = 20;
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Strategy> strategies = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--matches=")) {
+                matches = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--firstSeed=")) {
+                firstSeed = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--maxPieces=")) {
+                maxPieces = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--delay=")) {
+                delay = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            } else {
+                strategies.add(Strategy.parse(arg));
+            }
+        }
+        if (strategies.isEmpty()) {
+            strategies.add(Strategy.parse("greedy:GREEDY"));
+            strategies.add(Strategy.parse("greedy2:GREEDY"));
+        }
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("A match needs at least two strategies");
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long matchDelay = delay;
+        //The planners search on the worker playing the match, so a worker never steals another match and resets the
+        //boards of the one it is in the middle of
+        ThreadLocal<VersusMatch> localMatch = ThreadLocal.withInitial(() -> {
+            List<MovePlanner> planners = new ArrayList<>();
+            for (Strategy strategy : strategies) {
+                planners.add(strategy.createPlanner());
+            }
+            return new VersusMatch(BoardType.BITBOARD, BOARD_WIDTH, BOARD_HEIGHT, planners, matchDelay);
+        });
+        long[] wins = new long[strategies.size() + 1];
+        RunningStatistics pieces = new RunningStatistics();
+        RunningStatistics[] linesSent = new RunningStatistics[strategies.size()];
+        for (int i = 0; i < linesSent.length; i++) {
+            linesSent[i] = new RunningStatistics();
+        }
+        long cap = maxPieces;
+        LongStream seeds = LongStream.range(firstSeed, firstSeed + matches).parallel();
+        long start = System.nanoTime();
+        try {
+            pool.submit(() -> seeds.forEach(seed -> {
+                MatchResult result = localMatch.get().play(seed, cap);
+                synchronized (wins) {
+                    wins[result.getWinner() + 1]++;
+                    long total = 0;
+                    for (int i = 0; i < linesSent.length; i++) {
+                        total += result.getPieces(i);
+                        linesSent[i].add(result.getLinesSent(i));
+                    }
+                    pieces.add(total);
+                }
+            })).get();
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf(Locale.ROOT, "%d matches on %d threads in %.1f s (%.0f matches/s), %d draws%n", matches,
+                threads, seconds, matches / seconds, wins[0]);
+        System.out.printf(Locale.ROOT, "%-16s %10s %22s%n", "strategy", "win rate", "lines sent (95% CI)");
+        for (int i = 0; i < strategies.size(); i++) {
+            System.out.printf(Locale.ROOT, "%-16s %9.1f%% %22s%n", strategies.get(i).getName(),
+                    100.0 * wins[i + 1] / matches, String.format(Locale.ROOT, "%.1f +- %.1f", linesSent[i].getMean(),
+                            linesSent[i].getConfidenceHalfWidth()));
+        }
+        System.out.printf(Locale.ROOT, "pieces per match %.1f +- %.1f%n", pieces.getMean(),
+                pieces.getConfidenceHalfWidth());
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
@@ -1,21 +1,25 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.BrickShape;
+
 public final class ViewData {
 
-    private final int[][] brickData;
+    private final BrickShape brickData;
     private final int xPosition;
     private final int yPosition;
-    private final int[][] nextBrickData;
+    private final BrickShape nextBrickData;
+    private final int ghostYPosition;
 
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData) {
+    public ViewData(BrickShape brickData, int xPosition, int yPosition, BrickShape nextBrickData, int ghostYPosition) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
+        this.ghostYPosition = ghostYPosition;
     }
 
-    public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+    public BrickShape getBrickData() {
+        return brickData;
     }
 
     public int getxPosition() {
@@ -26,7 +30,12 @@ public final class ViewData {
         return yPosition;
     }
 
-    public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+    public BrickShape getNextBrickData() {
+        return nextBrickData;
+    }
+
+    //Row the brick would land on if it was hard dropped now
+    public int getGhostYPosition() {
+        return ghostYPosition;
     }
 }
@@ -0,0 +1,98 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.Board;
+import com.comp2042.BrickMasks;
+import com.comp2042.EventType;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+//Replays the input path of the planned placement one event per call, ending with a hard drop that locks the brick.
+//If gravity, a wall kick or the player moves the brick off the expected state the path is planned again from where
+//it is.
+public class AiPlayer {
+
+    private final Board board;
+    private final MovePlanner planner;
+    private final Supplier<List<Brick>> preview;
+    private Placement plan;
+    private boolean planned;
+    private int step;
+    private int expectedRotation;
+    private int expectedX;
+    private int expectedY;
+
+    public AiPlayer(Board board, MovePlanner planner, Supplier<List<Brick>> preview) {
+        this.board = board;
+        this.planner = planner;
+        this.preview = preview;
+    }
+
+    public EventType nextMove() {
+        ViewData viewData = board.getViewData();
+        int rotation = board.getCurrentRotation();
+        int x = viewData.getxPosition();
+        int y = viewData.getyPosition();
+        if (!planned || (plan != null && (rotation != expectedRotation || x != expectedX || y != expectedY))) {
+            plan = planner.findBest(board.getBoardMatrix(), board.getCurrentBrick(), rotation, x, y, preview.get());
+            planned = true;
+            step = 0;
+            expectedRotation = rotation;
+            expectedX = x;
+            expectedY = y;
+        }
+        if (plan == null || step >= plan.getPath().length) {
+            return EventType.DOWN;
+        }
+        if (isDropOnly(plan.getPath(), step)) {
+            step = plan.getPath().length;
+            return EventType.HARD_DROP;
+        }
+        EventType type = plan.getPath()[step++];
+        expectedRotation = rotation;
+        expectedX = x;
+        expectedY = y;
+        switch (type) {
+            case LEFT:
+                expectedX--;
+                break;
+            case RIGHT:
+                expectedX++;
+                break;
+            case ROTATE:
+                expectedRotation = (rotation + 1) % BrickMasks.of(board.getCurrentBrick()).getRotationCount();
+                break;
+            case ROTATE_RIGHT:
+                int count = BrickMasks.of(board.getCurrentBrick()).getRotationCount();
+                expectedRotation = (rotation + count - 1) % count;
+                break;
+            case DOWN:
+            default:
+                expectedY++;
+                break;
+        }
+        return type;
+    }
+
+    //Once only soft drops are left the brick is already above its target, so it is hard dropped instead
+    private static boolean isDropOnly(EventType[] path, int from) {
+        for (int i = from; i < path.length; i++) {
+            if (path[i] != EventType.DOWN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //Call when the piece locked or a planned move was rejected so the next move is planned from the live board
+    public void invalidatePlan() {
+        planned = false;
+        plan = null;
+    }
+
+    public Placement getPlan() {
+        return plan;
+    }
+}
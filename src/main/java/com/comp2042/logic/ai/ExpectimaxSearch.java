@@ -0,0 +1,284 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.BrickMasks;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Bricks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//Iteratively deepened expectimax: known preview bricks are max nodes, bricks beyond the preview are averaged
+//over all brick types. Root placements are evaluated in parallel and node values are shared through a
+//transposition table keyed by the Zobrist hash of the board plus the remaining depth and preview position.
+//Without a pool the root placements are evaluated on the calling thread, for callers that already run one game
+//per worker: a worker waiting in pool.invoke could otherwise steal another of their games and run it on top of
+//the one it is searching for.
+public class ExpectimaxSearch implements MovePlanner {
+
+    //Where Board.createNewBrick spawns a brick
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 10;
+    private static final double TOP_OUT = -1e9;
+
+    private HeuristicWeights weights;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int maxDepth;
+    private final TranspositionTable table;
+    private final RotationSystem rotationSystem;
+    private ZobristKeys zobristKeys;
+    private MoveGenerator rootGenerator;
+    private final ThreadLocal<Worker> workers = new ThreadLocal<>();
+    private long searchCount;
+    private int lastDepth;
+
+    public ExpectimaxSearch(HeuristicWeights weights, ForkJoinPool pool, long budgetNanos, int maxDepth,
+                            TranspositionTable table) {
+        this(weights, pool, budgetNanos, maxDepth, table, RotationSystem.CLASSIC);
+    }
+
+    public ExpectimaxSearch(HeuristicWeights weights, ForkJoinPool pool, long budgetNanos, int maxDepth,
+                            TranspositionTable table, RotationSystem rotationSystem) {
+        this.weights = weights;
+        this.pool = pool;
+        this.budgetNanos = budgetNanos;
+        this.maxDepth = maxDepth;
+        this.table = table;
+        this.rotationSystem = rotationSystem;
+    }
+
+    public static ExpectimaxSearch fromSystemProperties() {
+        return new ExpectimaxSearch(HeuristicWeights.fromSystemProperty(), ForkJoinPool.commonPool(),
+                Integer.getInteger("tetris.ai.budgetMs", 5) * 1_000_000L,
+                Integer.getInteger("tetris.ai.depth", 3),
+                new TranspositionTable(Integer.getInteger("tetris.ai.tableEntries", 1 << 20)),
+                RotationSystem.fromSystemProperty());
+    }
+
+    @Override
+    public Placement findBest(int[][] boardMatrix, Brick brick, int rotation, int x, int y, List<Brick> preview) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int columns = boardMatrix[0].length;
+        if (zobristKeys == null || !zobristKeys.matches(boardMatrix.length, columns)) {
+            zobristKeys = new ZobristKeys(boardMatrix.length, columns, 0x5DEECE66DL);
+        }
+        if (rootGenerator == null || !rootGenerator.matches(boardMatrix.length, columns)) {
+            rootGenerator = new MoveGenerator(boardMatrix.length, columns, rotationSystem);
+        }
+        long[] rows = MaskBoard.fromMatrix(boardMatrix);
+        BrickMasks masks = BrickMasks.of(brick);
+        int candidates = rootGenerator.generate(rows, masks, rotation, x, y);
+        if (candidates == 0) {
+            return null;
+        }
+        Search search = new Search(rows, columns, masks, rootGenerator, preview.toArray(new Brick[0]),
+                ZobristKeys.mix(++searchCount), deadline);
+        Placement best = null;
+        double[] values = new double[candidates];
+        lastDepth = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            Arrays.fill(values, Double.NaN);
+            if (pool == null) {
+                search.evaluateRoots(values, depth, 0, candidates);
+            } else {
+                pool.invoke(new RootTask(search, values, depth, 0, candidates));
+            }
+            if (search.aborted && best != null) {
+                break;
+            }
+            Placement found = Placement.best(rootGenerator, values);
+            if (found != null) {
+                best = found;
+                lastDepth = depth;
+            }
+            if (search.aborted) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public HeuristicWeights getWeights() {
+        return weights;
+    }
+
+    //Cached node values are salted per search, so entries scored with the old weights are never reused
+    @Override
+    public void setWeights(HeuristicWeights weights) {
+        this.weights = weights;
+    }
+
+    //Deepest search depth that completed during the last call
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    private final class Search {
+
+        private final long[] rows;
+        private final int columns;
+        private final long fullRow;
+        private final BrickMasks rootMasks;
+        private final MoveGenerator roots;
+        private final Brick[] preview;
+        private final long salt;
+        private final long deadline;
+        private volatile boolean aborted;
+
+        private Search(long[] rows, int columns, BrickMasks rootMasks, MoveGenerator roots, Brick[] preview, long salt,
+                       long deadline) {
+            this.rows = rows;
+            this.columns = columns;
+            this.fullRow = MaskBoard.fullRow(columns);
+            this.rootMasks = rootMasks;
+            this.roots = roots;
+            this.preview = preview;
+            this.salt = salt;
+            this.deadline = deadline;
+        }
+
+        private Worker worker() {
+            Worker worker = workers.get();
+            if (worker == null || !worker.matches(rows.length, columns, maxDepth)) {
+                worker = new Worker(maxDepth, rows.length, columns, rotationSystem);
+                workers.set(worker);
+            }
+            return worker;
+        }
+
+        private void evaluateRoots(double[] values, int depth, int from, int to) {
+            Worker worker = worker();
+            for (int i = from; i < to && !aborted; i++) {
+                double value = evaluateRoot(i, depth, worker);
+                if (!aborted) {
+                    values[i] = value;
+                }
+            }
+        }
+
+        private double evaluateRoot(int index, int depth, Worker worker) {
+            long[] shape = rootMasks.getRowMasks(roots.getRotation(index));
+            long[] child = worker.boards[0];
+            System.arraycopy(rows, 0, child, 0, rows.length);
+            int lines = MaskBoard.lock(child, fullRow, shape, roots.getX(index), roots.getY(index));
+            return weights.getLinesCleared() * lines
+                    + expect(child, zobristKeys.hash(child), 0, depth - 1, worker);
+        }
+
+        //Value of a board with lines counted from here on, so it does not depend on the path that reached it
+        private double expect(long[] board, long hash, int pieceIndex, int depthLeft, Worker worker) {
+            if (depthLeft == 0) {
+                return MaskBoard.evaluate(board, columns, 0, weights, worker.heights);
+            }
+            if (aborted || System.nanoTime() >= deadline) {
+                aborted = true;
+                return 0;
+            }
+            long key = hash ^ ZobristKeys.mix(salt + ((long) pieceIndex << 8) + depthLeft);
+            double cached = table.get(key);
+            if (!Double.isNaN(cached)) {
+                return cached;
+            }
+            double value;
+            if (pieceIndex < preview.length) {
+                value = best(board, hash, BrickMasks.of(preview[pieceIndex]), pieceIndex, depthLeft, worker);
+            } else {
+                List<Brick> bricks = Bricks.all();
+                double sum = 0;
+                for (int i = 0; i < bricks.size(); i++) {
+                    sum += best(board, hash, BrickMasks.of(bricks.get(i)), pieceIndex, depthLeft, worker);
+                }
+                value = sum / bricks.size();
+            }
+            if (!aborted) {
+                table.put(key, value);
+            }
+            return value;
+        }
+
+        private double best(long[] board, long hash, BrickMasks masks, int pieceIndex, int depthLeft, Worker worker) {
+            long[] child = worker.boards[pieceIndex + 1];
+            MoveGenerator locks = worker.generators[pieceIndex + 1];
+            int count = locks.generate(board, masks, 0, SPAWN_X, SPAWN_Y);
+            double best = TOP_OUT;
+            for (int i = 0; i < count; i++) {
+                long[] shape = masks.getRowMasks(locks.getRotation(i));
+                int x = locks.getX(i);
+                int y = locks.getY(i);
+                System.arraycopy(board, 0, child, 0, board.length);
+                int lines = MaskBoard.lock(child, fullRow, shape, x, y);
+                long childHash = lines == 0 ? hash ^ pieceHash(shape, x, y) : zobristKeys.hash(child);
+                double value = weights.getLinesCleared() * lines
+                        + expect(child, childHash, pieceIndex + 1, depthLeft - 1, worker);
+                if (value > best) {
+                    best = value;
+                }
+            }
+            return best;
+        }
+
+        private long pieceHash(long[] shape, int x, int y) {
+            long hash = 0;
+            for (int i = 0; i < shape.length; i++) {
+                if (shape[i] != 0) {
+                    hash ^= zobristKeys.rowHash(y + i, BrickMasks.place(shape[i], x, fullRow));
+                }
+            }
+            return hash;
+        }
+    }
+
+    private static final class RootTask extends RecursiveAction {
+
+        private final Search search;
+        private final double[] values;
+        private final int depth;
+        private final int from;
+        private final int to;
+
+        private RootTask(Search search, double[] values, int depth, int from, int to) {
+            this.search = search;
+            this.values = values;
+            this.depth = depth;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RootTask(search, values, depth, from, middle),
+                        new RootTask(search, values, depth, middle, to));
+                return;
+            }
+            search.evaluateRoots(values, depth, from, to);
+        }
+    }
+
+    //Per thread scratch space, one board and one move generator for every ply and the column heights used to score
+    //leaves, so nothing is allocated per node
+    private static final class Worker {
+
+        private final long[][] boards;
+        private final MoveGenerator[] generators;
+        private final int[] heights;
+
+        private Worker(int depth, int rows, int columns, RotationSystem rotationSystem) {
+            boards = new long[depth + 1][rows];
+            heights = new int[columns];
+            generators = new MoveGenerator[depth + 1];
+            for (int i = 0; i < generators.length; i++) {
+                generators[i] = new MoveGenerator(rows, columns, rotationSystem);
+            }
+        }
+
+        private boolean matches(int rows, int columns, int depth) {
+            return boards.length == depth + 1 && boards[0].length == rows && generators[0].matches(rows, columns);
+        }
+    }
+}
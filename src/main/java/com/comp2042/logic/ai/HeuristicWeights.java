@@ -0,0 +1,69 @@
+package com.comp2042.logic.ai;
+
+import java.util.Arrays;
+
+public final class HeuristicWeights {
+
+    public static final HeuristicWeights DEFAULT = new HeuristicWeights(-0.510066, 0.760666, -0.35663, -0.184483);
+
+    private final double aggregateHeight;
+    private final double linesCleared;
+    private final double holes;
+    private final double bumpiness;
+
+    public HeuristicWeights(double aggregateHeight, double linesCleared, double holes, double bumpiness) {
+        this.aggregateHeight = aggregateHeight;
+        this.linesCleared = linesCleared;
+        this.holes = holes;
+        this.bumpiness = bumpiness;
+    }
+
+    //Reads -Dtetris.ai.weights=height,lines,holes,bumpiness
+    public static HeuristicWeights fromSystemProperty() {
+        String value = System.getProperty("tetris.ai.weights");
+        return value == null ? DEFAULT : parse(value);
+    }
+
+    public static HeuristicWeights parse(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Weights need 4 comma separated values: " + value);
+        }
+        double[] weights = Arrays.stream(parts).mapToDouble(part -> Double.parseDouble(part.trim())).toArray();
+        return fromArray(weights);
+    }
+
+    public static HeuristicWeights fromArray(double[] weights) {
+        return new HeuristicWeights(weights[0], weights[1], weights[2], weights[3]);
+    }
+
+    public double[] toArray() {
+        return new double[]{aggregateHeight, linesCleared, holes, bumpiness};
+    }
+
+    public double score(int aggregateHeight, int linesCleared, int holes, int bumpiness) {
+        return this.aggregateHeight * aggregateHeight + this.linesCleared * linesCleared
+                + this.holes * holes + this.bumpiness * bumpiness;
+    }
+
+    public double getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    public double getLinesCleared() {
+        return linesCleared;
+    }
+
+    public double getHoles() {
+        return holes;
+    }
+
+    public double getBumpiness() {
+        return bumpiness;
+    }
+
+    @Override
+    public String toString() {
+        return aggregateHeight + "," + linesCleared + "," + holes + "," + bumpiness;
+    }
+}
@@ -0,0 +1,92 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.BrickMasks;
+
+import java.util.Arrays;
+
+//Row mask helpers shared by the search code, bit c of rows[r] is the cell at row r column c
+public final class MaskBoard {
+
+    private MaskBoard() {
+
+    }
+
+    public static long[] fromMatrix(int[][] matrix) {
+        long[] rows = new long[matrix.length];
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] != 0) {
+                    rows[i] |= 1L << j;
+                }
+            }
+        }
+        return rows;
+    }
+
+    public static long fullRow(int columns) {
+        return columns == Long.SIZE ? -1L : (1L << columns) - 1;
+    }
+
+    public static boolean fits(long[] rows, long fullRow, long[] shape, int x, int y) {
+        for (int i = 0; i < shape.length; i++) {
+            if (shape[i] != 0) {
+                int targetY = y + i;
+                if (targetY < 0 || targetY >= rows.length) {
+                    return false;
+                }
+                long placed = BrickMasks.place(shape[i], x, fullRow);
+                if (placed == 0 || (placed & rows[targetY]) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    //Merges the shape into rows and removes full rows in place, returning how many were removed
+    public static int lock(long[] rows, long fullRow, long[] shape, int x, int y) {
+        for (int i = 0; i < shape.length; i++) {
+            if (shape[i] != 0) {
+                rows[y + i] |= BrickMasks.place(shape[i], x, fullRow);
+            }
+        }
+        int removed = 0;
+        for (int i = rows.length - 1; i >= 0; i--) {
+            if (rows[i] == fullRow) {
+                removed++;
+            } else if (removed > 0) {
+                rows[i + removed] = rows[i];
+            }
+        }
+        for (int i = 0; i < removed; i++) {
+            rows[i] = 0;
+        }
+        return removed;
+    }
+
+    //heights is the caller's scratch space of at least columns entries, so scoring a leaf allocates nothing
+    public static double evaluate(long[] rows, int columns, int linesCleared, HeuristicWeights weights,
+                                  int[] heights) {
+        long seen = 0;
+        int holes = 0;
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        Arrays.fill(heights, 0, columns, 0);
+        for (int i = 0; i < rows.length; i++) {
+            long row = rows[i];
+            holes += Long.bitCount(seen & ~row);
+            long newColumns = row & ~seen;
+            while (newColumns != 0) {
+                int column = Long.numberOfTrailingZeros(newColumns);
+                heights[column] = rows.length - i;
+                aggregateHeight += rows.length - i;
+                newColumns &= newColumns - 1;
+            }
+            seen |= row;
+        }
+        for (int i = 1; i < columns; i++) {
+            bumpiness += Math.abs(heights[i] - heights[i - 1]);
+        }
+        return weights.score(aggregateHeight, linesCleared, holes, bumpiness);
+    }
+}
@@ -0,0 +1,239 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.BrickMasks;
+import com.comp2042.EventType;
+import com.comp2042.RotationSystem;
+
+//Breadth first flood fill over (rotation, x, y) states using the same moves the board allows: one column left
+//or right, one row down, and rotation with the first kick that fits. CLASSIC only rotates left, in place, like
+//the board did before rotation systems, so its paths stay the same. Every state whose next row down
+//collides is a lock position, and the parent links give the shortest input path to it. All buffers are sized
+//for the board once, so a generator is reused across calls by one thread without allocating.
+public final class MoveGenerator {
+
+    private static final int MAX_SHAPE_ROWS = 4;
+    private static final int MAX_ROTATIONS = 4;
+    //Shapes are 4 wide so a piece can sit up to 3 columns left of the board edge
+    private static final int LEFT_MARGIN = 3;
+    private static final EventType[] CLASSIC_MOVES = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.DOWN};
+    private static final EventType[] KICK_MOVES = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE,
+            EventType.ROTATE_RIGHT, EventType.DOWN};
+
+    private final RotationSystem rotationSystem;
+    private final EventType[] moves;
+    private final int rows;
+    private final int xRange;
+    private final long fullRow;
+    private final long[] visited;
+    private final int[] queue;
+    private final int[] parents;
+    private final byte[] parentMoves;
+    private final int[] locks;
+    private final long[] placedMasks;
+    private final boolean[] inBounds;
+    private BrickMasks cachedMasks;
+    private int rotationCount;
+    private long[] board;
+    private int lockCount;
+
+    public MoveGenerator(int rows, int columns) {
+        this(rows, columns, RotationSystem.CLASSIC);
+    }
+
+    public MoveGenerator(int rows, int columns, RotationSystem rotationSystem) {
+        this.rotationSystem = rotationSystem;
+        moves = rotationSystem == RotationSystem.CLASSIC ? CLASSIC_MOVES : KICK_MOVES;
+        this.rows = rows;
+        this.xRange = columns + LEFT_MARGIN;
+        this.fullRow = MaskBoard.fullRow(columns);
+        int states = MAX_ROTATIONS * rows * xRange;
+        visited = new long[(states + Long.SIZE - 1) / Long.SIZE];
+        queue = new int[states];
+        parents = new int[states];
+        parentMoves = new byte[states];
+        locks = new int[states];
+        placedMasks = new long[MAX_ROTATIONS * xRange * MAX_SHAPE_ROWS];
+        inBounds = new boolean[MAX_ROTATIONS * xRange];
+    }
+
+    //Returns the number of lock positions reachable from the given state, 0 when the start already collides
+    public int generate(long[] board, BrickMasks masks, int rotation, int x, int y) {
+        this.board = board;
+        prepare(masks);
+        lockCount = 0;
+        //A start above the board is refused even when the brick's top rows are empty, it has no state index
+        int start = shift(rotation, x + LEFT_MARGIN, y);
+        if (start < 0) {
+            return 0;
+        }
+        for (int i = 0; i < visited.length; i++) {
+            visited[i] = 0;
+        }
+        visit(start, -1, -1);
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int state = queue[head++];
+            int xi = state % xRange;
+            int rest = state / xRange;
+            int stateY = rest % rows;
+            int stateRotation = rest / rows;
+            for (int move = 0; move < moves.length; move++) {
+                int next;
+                switch (moves[move]) {
+                    case LEFT:
+                        next = shift(stateRotation, xi - 1, stateY);
+                        break;
+                    case RIGHT:
+                        next = shift(stateRotation, xi + 1, stateY);
+                        break;
+                    case ROTATE:
+                        next = rotate(stateRotation, xi, stateY, (stateRotation + 1) % rotationCount,
+                                RotationSystem.ROTATE_LEFT);
+                        break;
+                    case ROTATE_RIGHT:
+                        next = rotate(stateRotation, xi, stateY, (stateRotation + rotationCount - 1) % rotationCount,
+                                RotationSystem.ROTATE_RIGHT);
+                        break;
+                    case DOWN:
+                    default:
+                        next = shift(stateRotation, xi, stateY + 1);
+                        if (next < 0) {
+                            locks[lockCount++] = state;
+                        }
+                        break;
+                }
+                if (next >= 0 && !isVisited(next)) {
+                    visit(next, state, move);
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return lockCount;
+    }
+
+    public boolean matches(int rows, int columns) {
+        return this.rows == rows && xRange == columns + LEFT_MARGIN;
+    }
+
+    public int getLockCount() {
+        return lockCount;
+    }
+
+    public int getRotation(int lock) {
+        return locks[lock] / xRange / rows;
+    }
+
+    public int getX(int lock) {
+        return locks[lock] % xRange - LEFT_MARGIN;
+    }
+
+    public int getY(int lock) {
+        return locks[lock] / xRange % rows;
+    }
+
+    public int getPathLength(int lock) {
+        int length = 0;
+        for (int state = locks[lock]; parents[state] >= 0; state = parents[state]) {
+            length++;
+        }
+        return length;
+    }
+
+    //Fills out with the inputs leading from the start state to the lock position and returns how many there are
+    public int writePath(int lock, EventType[] out) {
+        int length = getPathLength(lock);
+        int i = length;
+        for (int state = locks[lock]; parents[state] >= 0; state = parents[state]) {
+            out[--i] = moves[parentMoves[state]];
+        }
+        return length;
+    }
+
+    public EventType[] getPath(int lock) {
+        EventType[] path = new EventType[getPathLength(lock)];
+        writePath(lock, path);
+        return path;
+    }
+
+    private void prepare(BrickMasks masks) {
+        if (masks == cachedMasks) {
+            return;
+        }
+        if (masks.getRotationCount() > MAX_ROTATIONS) {
+            throw new IllegalArgumentException("Bricks may have at most " + MAX_ROTATIONS + " rotations");
+        }
+        for (int r = 0; r < masks.getRotationCount(); r++) {
+            long[] shape = masks.getRowMasks(r);
+            if (shape.length > MAX_SHAPE_ROWS) {
+                throw new IllegalArgumentException("Bricks may be at most " + MAX_SHAPE_ROWS + " rows high");
+            }
+            for (int xi = 0; xi < xRange; xi++) {
+                boolean valid = true;
+                int base = (r * xRange + xi) * MAX_SHAPE_ROWS;
+                for (int i = 0; i < MAX_SHAPE_ROWS; i++) {
+                    long placed = 0;
+                    if (i < shape.length && shape[i] != 0) {
+                        placed = BrickMasks.place(shape[i], xi - LEFT_MARGIN, fullRow);
+                        valid &= placed != 0;
+                    }
+                    placedMasks[base + i] = placed;
+                }
+                inBounds[r * xRange + xi] = valid;
+            }
+        }
+        rotationCount = masks.getRotationCount();
+        cachedMasks = masks;
+    }
+
+    //State index after moving to (xi, y) without rotating, or -1 when the brick does not fit there
+    private int shift(int rotation, int xi, int y) {
+        if (xi < 0 || xi >= xRange || y < 0 || y >= rows || !fits(rotation, xi, y)) {
+            return -1;
+        }
+        return index(rotation, xi, y);
+    }
+
+    private int rotate(int rotation, int xi, int y, int nextRotation, int direction) {
+        int[] kicks = cachedMasks.getKicks(rotationSystem, rotation, direction);
+        for (int i = 0; i < kicks.length; i += 2) {
+            int next = shift(nextRotation, xi + kicks[i], y + kicks[i + 1]);
+            if (next >= 0) {
+                return next;
+            }
+        }
+        return -1;
+    }
+
+    private boolean fits(int rotation, int xi, int y) {
+        if (!inBounds[rotation * xRange + xi]) {
+            return false;
+        }
+        int base = (rotation * xRange + xi) * MAX_SHAPE_ROWS;
+        for (int i = 0; i < MAX_SHAPE_ROWS; i++) {
+            long placed = placedMasks[base + i];
+            if (placed != 0) {
+                int row = y + i;
+                if (row < 0 || row >= rows || (placed & board[row]) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int index(int rotation, int xi, int y) {
+        return (rotation * rows + y) * xRange + xi;
+    }
+
+    private boolean isVisited(int state) {
+        return (visited[state >>> 6] & (1L << state)) != 0;
+    }
+
+    private void visit(int state, int parent, int move) {
+        visited[state >>> 6] |= 1L << state;
+        parents[state] = parent;
+        parentMoves[state] = (byte) move;
+    }
+}
@@ -0,0 +1,15 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.List;
+
+public interface MovePlanner {
+
+    //Returns the placement to steer the current brick to, or null when nothing could be decided in time
+    Placement findBest(int[][] boardMatrix, Brick brick, int rotation, int x, int y, List<Brick> preview);
+
+    HeuristicWeights getWeights();
+
+    void setWeights(HeuristicWeights weights);
+}
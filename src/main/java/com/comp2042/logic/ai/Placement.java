@@ -0,0 +1,67 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.EventType;
+
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final double score;
+    private final EventType[] path;
+
+    public Placement(int rotation, int x, int y, double score, EventType[] path) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.score = score;
+        this.path = path;
+    }
+
+    //Highest scored lock position, skipping the ones left as NaN because the deadline passed first.
+    //Ties go to the lowest rotation and then the leftmost column, which keeps flat stacks against one wall.
+    static Placement best(MoveGenerator locks, double[] scores) {
+        int best = -1;
+        for (int i = 0; i < scores.length; i++) {
+            if (Double.isNaN(scores[i])) {
+                continue;
+            }
+            if (best < 0 || scores[i] > scores[best] || (scores[i] == scores[best] && leftOf(locks, i, best))) {
+                best = i;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        return new Placement(locks.getRotation(best), locks.getX(best), locks.getY(best), scores[best],
+                locks.getPath(best));
+    }
+
+    private static boolean leftOf(MoveGenerator locks, int a, int b) {
+        if (locks.getRotation(a) != locks.getRotation(b)) {
+            return locks.getRotation(a) < locks.getRotation(b);
+        }
+        return locks.getX(a) < locks.getX(b);
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    //Inputs from the position the search started at to the lock position, the final soft drop locks the brick
+    public EventType[] getPath() {
+        return path;
+    }
+}
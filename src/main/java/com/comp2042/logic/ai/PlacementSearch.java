@@ -0,0 +1,135 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.BrickMasks;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//Scores every reachable lock position of the current brick and returns the best one
+public class PlacementSearch implements MovePlanner {
+
+    private static final int LEAF_CANDIDATES = 4;
+
+    private HeuristicWeights weights;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int sequentialThreshold;
+    private final RotationSystem rotationSystem;
+    private MoveGenerator moveGenerator;
+
+    public PlacementSearch(HeuristicWeights weights, ForkJoinPool pool, long budgetNanos, int sequentialThreshold) {
+        this(weights, pool, budgetNanos, sequentialThreshold, RotationSystem.CLASSIC);
+    }
+
+    public PlacementSearch(HeuristicWeights weights, ForkJoinPool pool, long budgetNanos, int sequentialThreshold,
+                           RotationSystem rotationSystem) {
+        this.weights = weights;
+        this.pool = pool;
+        this.budgetNanos = budgetNanos;
+        this.sequentialThreshold = sequentialThreshold;
+        this.rotationSystem = rotationSystem;
+    }
+
+    public static PlacementSearch fromSystemProperties() {
+        return new PlacementSearch(HeuristicWeights.fromSystemProperty(), ForkJoinPool.commonPool(),
+                Integer.getInteger("tetris.ai.budgetMs", 5) * 1_000_000L,
+                Integer.getInteger("tetris.ai.sequentialCells", 16_384), RotationSystem.fromSystemProperty());
+    }
+
+    @Override
+    public Placement findBest(int[][] boardMatrix, Brick brick, int rotation, int x, int y, List<Brick> preview) {
+        return findBest(boardMatrix, brick, rotation, x, y);
+    }
+
+    public Placement findBest(int[][] boardMatrix, Brick brick, int rotation, int x, int y) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int columns = boardMatrix[0].length;
+        if (moveGenerator == null || !moveGenerator.matches(boardMatrix.length, columns)) {
+            moveGenerator = new MoveGenerator(boardMatrix.length, columns, rotationSystem);
+        }
+        long[] rows = MaskBoard.fromMatrix(boardMatrix);
+        BrickMasks masks = BrickMasks.of(brick);
+        int candidates = moveGenerator.generate(rows, masks, rotation, x, y);
+        if (candidates == 0) {
+            return null;
+        }
+        Search search = new Search(rows, columns, masks, moveGenerator, deadline);
+        double[] scores = new double[candidates];
+        Arrays.fill(scores, Double.NaN);
+        if ((long) candidates * boardMatrix.length * columns < sequentialThreshold) {
+            search.evaluateRange(scores, 0, candidates);
+        } else {
+            pool.invoke(new CandidateTask(search, scores, 0, candidates));
+        }
+        return Placement.best(moveGenerator, scores);
+    }
+
+    @Override
+    public HeuristicWeights getWeights() {
+        return weights;
+    }
+
+    @Override
+    public void setWeights(HeuristicWeights weights) {
+        this.weights = weights;
+    }
+
+    private final class Search {
+
+        private final long[] rows;
+        private final int columns;
+        private final long fullRow;
+        private final BrickMasks masks;
+        private final MoveGenerator locks;
+        private final long deadline;
+
+        private Search(long[] rows, int columns, BrickMasks masks, MoveGenerator locks, long deadline) {
+            this.rows = rows;
+            this.columns = columns;
+            this.fullRow = MaskBoard.fullRow(columns);
+            this.masks = masks;
+            this.locks = locks;
+            this.deadline = deadline;
+        }
+
+        private void evaluateRange(double[] scores, int from, int to) {
+            long[] scratch = new long[rows.length];
+            int[] heights = new int[columns];
+            for (int i = from; i < to && System.nanoTime() < deadline; i++) {
+                System.arraycopy(rows, 0, scratch, 0, rows.length);
+                int lines = MaskBoard.lock(scratch, fullRow, masks.getRowMasks(locks.getRotation(i)),
+                        locks.getX(i), locks.getY(i));
+                scores[i] = MaskBoard.evaluate(scratch, columns, lines, weights, heights);
+            }
+        }
+    }
+
+    private static final class CandidateTask extends RecursiveAction {
+
+        private final Search search;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+
+        private CandidateTask(Search search, double[] scores, int from, int to) {
+            this.search = search;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_CANDIDATES || System.nanoTime() >= search.deadline) {
+                search.evaluateRange(scores, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CandidateTask(search, scores, from, middle), new CandidateTask(search, scores, middle, to));
+        }
+    }
+}
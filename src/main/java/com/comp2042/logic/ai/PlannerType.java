@@ -0,0 +1,21 @@
+package com.comp2042.logic.ai;
+
+import java.util.Locale;
+
+public enum PlannerType {
+    GREEDY, EXPECTIMAX;
+
+    public MovePlanner create() {
+        switch (this) {
+            case GREEDY:
+                return PlacementSearch.fromSystemProperties();
+            case EXPECTIMAX:
+            default:
+                return ExpectimaxSearch.fromSystemProperties();
+        }
+    }
+
+    public static PlannerType fromSystemProperty() {
+        return valueOf(System.getProperty("tetris.ai.search", EXPECTIMAX.name()).toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+//Headless AI game that is reset in place between seeds, so batches of games reuse one board, generator and planner
+public class Simulation {
+
+    private final SeededBrickGenerator generator;
+    private final GameEngine engine;
+    private final AiPlayer player;
+    private final MovePlanner planner;
+
+    public Simulation(BoardType boardType, int width, int height, MovePlanner planner) {
+        generator = new SeededBrickGenerator(0);
+        engine = new GameEngine(boardType.create(width, height, generator));
+        player = new AiPlayer(engine.getBoard(), planner, generator::getPreview);
+        this.planner = planner;
+    }
+
+    public void setWeights(HeuristicWeights weights) {
+        planner.setWeights(weights);
+    }
+
+    //Plays until the game is over or maxPieces bricks have spawned and returns the engine holding the final state
+    public GameEngine play(long seed, long maxPieces) {
+        generator.reset(seed);
+        engine.newGame();
+        player.invalidatePlan();
+        while (!engine.isGameOver() && engine.getPieceCount() < maxPieces) {
+            EventType type = player.nextMove();
+            boolean moved = engine.step(type);
+            if (engine.getLastClearRow() != null || (!moved && type != EventType.DOWN)) {
+                player.invalidatePlan();
+            }
+        }
+        return engine;
+    }
+}
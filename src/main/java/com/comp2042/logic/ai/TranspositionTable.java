@@ -0,0 +1,77 @@
+package com.comp2042.logic.ai;
+
+//Fixed size 4-way set associative cache of node values shared by all search threads without locks.
+//Each slot stores key ^ value next to the value so a torn write from a racing thread reads as a miss,
+//and victims inside a set are picked by a clock hand that gives recently hit slots a second chance.
+public class TranspositionTable {
+
+    private static final int WAYS = 4;
+
+    private final long[] checks;
+    private final long[] values;
+    private final byte[] referenced;
+    private final byte[] hands;
+    private final int setMask;
+
+    public TranspositionTable(int capacity) {
+        int sets = Integer.highestOneBit(Math.max(1, capacity / WAYS));
+        checks = new long[sets * WAYS];
+        values = new long[sets * WAYS];
+        referenced = new byte[sets * WAYS];
+        hands = new byte[sets];
+        setMask = sets - 1;
+    }
+
+    //Returns NaN when the key is not cached
+    public double get(long key) {
+        key = nonZero(key);
+        int base = setIndex(key) * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            long value = values[i];
+            if ((checks[i] ^ value) == key) {
+                referenced[i] = 1;
+                return Double.longBitsToDouble(value);
+            }
+        }
+        return Double.NaN;
+    }
+
+    public void put(long key, double value) {
+        key = nonZero(key);
+        int set = setIndex(key);
+        int base = set * WAYS;
+        int slot = -1;
+        for (int i = base; i < base + WAYS; i++) {
+            if ((checks[i] ^ values[i]) == key) {
+                slot = i;
+                break;
+            }
+        }
+        if (slot < 0) {
+            int hand = hands[set];
+            for (int n = 0; n < WAYS && referenced[base + hand] != 0; n++) {
+                referenced[base + hand] = 0;
+                hand = (hand + 1) % WAYS;
+            }
+            slot = base + hand;
+            hands[set] = (byte) ((hand + 1) % WAYS);
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        values[slot] = bits;
+        checks[slot] = key ^ bits;
+        referenced[slot] = 1;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    private int setIndex(long key) {
+        return (int) (key ^ (key >>> 32)) & setMask;
+    }
+
+    //An empty slot decodes as key 0, so real keys never use it
+    private static long nonZero(long key) {
+        return key == 0 ? 1 : key;
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.logic.ai;
+
+import java.util.SplittableRandom;
+
+//Random 64 bit key per cell, a board hashes to the xor of the keys of its filled cells
+public final class ZobristKeys {
+
+    private final int rows;
+    private final int columns;
+    private final long[] cellKeys;
+
+    public ZobristKeys(int rows, int columns, long seed) {
+        this.rows = rows;
+        this.columns = columns;
+        cellKeys = new long[rows * columns];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < cellKeys.length; i++) {
+            cellKeys[i] = random.nextLong();
+        }
+    }
+
+    public long hash(long[] boardRows) {
+        long hash = 0;
+        for (int i = 0; i < boardRows.length; i++) {
+            hash ^= rowHash(i, boardRows[i]);
+        }
+        return hash;
+    }
+
+    //Hash of the given cells of one row, so placing a piece without clearing lines only xors in its cells
+    public long rowHash(int row, long cells) {
+        long hash = 0;
+        int base = row * columns;
+        while (cells != 0) {
+            hash ^= cellKeys[base + Long.numberOfTrailingZeros(cells)];
+            cells &= cells - 1;
+        }
+        return hash;
+    }
+
+    public boolean matches(int rows, int columns) {
+        return this.rows == rows && this.columns == columns;
+    }
+
+    //Folds search context such as the remaining depth into a key that can be xored with a board hash
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
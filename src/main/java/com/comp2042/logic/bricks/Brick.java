@@ -5,4 +5,9 @@ import java.util.List;
 public interface Brick {
 
     List<int[][]> getShapeMatrix();
+
+    //Shared shape table entry, read-only
+    BrickShape getShape(int rotation);
+
+    int getRotationCount();
 }
@@ -1,8 +1,22 @@
 package com.comp2042.logic.bricks;
 
+import java.nio.ByteBuffer;
+
 public interface BrickGenerator {
 
     Brick getBrick();
 
     Brick getNextBrick();
+
+    //Bytes written by writeState, fixed for a generator's settings
+    int getStateSize();
+
+    void writeState(ByteBuffer buffer);
+
+    //Restores a state written by a generator with the same settings without allocating
+    void readState(ByteBuffer buffer);
+
+    //Throws IllegalArgumentException when the state at offset would not restore into this generator. Only reads
+    //at absolute positions, so neither the buffer nor the generator changes.
+    void checkState(ByteBuffer buffer, int offset);
 }
@@ -0,0 +1,23 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Locale;
+
+public enum BrickGeneratorType {
+    RANDOM, SEEDED, SEVEN_BAG;
+
+    public BrickGenerator create(long seed, int lookahead) {
+        switch (this) {
+            case SEEDED:
+                return new SeededBrickGenerator(seed, false, lookahead);
+            case SEVEN_BAG:
+                return new SeededBrickGenerator(seed, true, lookahead);
+            case RANDOM:
+            default:
+                return new RandomBrickGenerator();
+        }
+    }
+
+    public static BrickGeneratorType fromSystemProperty() {
+        return valueOf(System.getProperty("tetris.generator", RANDOM.name()).toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//One rotation of a brick, built once and shared by every game. The cells are only reachable through getCell, so
+//no board, renderer or AI can change the shape tables for the others.
+public final class BrickShape {
+
+    private final int[][] cells;
+
+    private BrickShape(int[][] cells) {
+        this.cells = new int[cells.length][];
+        for (int i = 0; i < cells.length; i++) {
+            this.cells[i] = cells[i].clone();
+        }
+    }
+
+    static List<BrickShape> listOf(List<int[][]> matrices) {
+        List<BrickShape> shapes = new ArrayList<>(matrices.size());
+        for (int[][] matrix : matrices) {
+            shapes.add(new BrickShape(matrix));
+        }
+        return Collections.unmodifiableList(shapes);
+    }
+
+    public int getHeight() {
+        return cells.length;
+    }
+
+    public int getWidth() {
+        return cells[0].length;
+    }
+
+    public int getCell(int row, int column) {
+        return cells[row][column];
+    }
+
+    //Fresh copy of the cells for code that works on matrices
+    public int[][] toMatrix() {
+        int[][] matrix = new int[cells.length][];
+        for (int i = 0; i < cells.length; i++) {
+            matrix[i] = cells[i].clone();
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+public final class Bricks {
+
+    private static final List<Brick> ALL = List.of(
+            new IBrick(),
+            new JBrick(),
+            new LBrick(),
+            new OBrick(),
+            new SBrick(),
+            new TBrick(),
+            new ZBrick()
+    );
+
+    private Bricks() {
+
+    }
+
+    public static List<Brick> all() {
+        return ALL;
+    }
+
+    public static Brick get(int index) {
+        return ALL.get(index);
+    }
+
+    //For indexes read from outside, e.g. a saved game
+    public static int checkIndex(int index) {
+        if (index < 0 || index >= ALL.size()) {
+            throw new IllegalArgumentException("Unknown brick " + index);
+        }
+        return index;
+    }
+
+    public static int indexOf(Brick brick) {
+        for (int i = 0; i < ALL.size(); i++) {
+            if (ALL.get(i).getClass() == brick.getClass()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
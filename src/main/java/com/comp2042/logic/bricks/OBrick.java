@@ -2,25 +2,34 @@ package com.comp2042.logic.bricks;
 
 import com.comp2042.MatrixOperations;
 
-import java.util.ArrayList;
 import java.util.List;
 
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public OBrick() {
-        brickMatrix.add(new int[][]{
+    private static final List<int[][]> BRICK_MATRIX = List.<int[][]>of(
+            new int[][]{
                 {0, 0, 0, 0},
                 {0, 4, 4, 0},
                 {0, 4, 4, 0},
                 {0, 0, 0, 0}
-        });
-    }
+            }
+    );
+
+    private static final List<BrickShape> SHAPES = BrickShape.listOf(BRICK_MATRIX);
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(BRICK_MATRIX);
+    }
+
+    @Override
+    public BrickShape getShape(int rotation) {
+        return SHAPES.get(rotation);
+    }
+
+    @Override
+    public int getRotationCount() {
+        return BRICK_MATRIX.size();
     }
 
 }
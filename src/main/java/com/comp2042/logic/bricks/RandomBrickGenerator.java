@@ -1,26 +1,21 @@
 package com.comp2042.logic.bricks;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomBrickGenerator implements BrickGenerator {
 
+    private static final int MAX_QUEUED = 2;
+
     private final List<Brick> brickList;
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
+        brickList = Bricks.all();
         nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
         nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
     }
@@ -37,4 +32,47 @@ public class RandomBrickGenerator implements BrickGenerator {
     public Brick getNextBrick() {
         return nextBricks.peek();
     }
+
+    @Override
+    public int getStateSize() {
+        return 1 + MAX_QUEUED;
+    }
+
+    //Only the queued bricks, the bricks after them stay random
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        buffer.put((byte) nextBricks.size());
+        int written = 0;
+        for (Brick brick : nextBricks) {
+            buffer.put((byte) Bricks.indexOf(brick));
+            written++;
+        }
+        for (; written < MAX_QUEUED; written++) {
+            buffer.put((byte) -1);
+        }
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        int queued = buffer.get();
+        nextBricks.clear();
+        for (int i = 0; i < MAX_QUEUED; i++) {
+            int index = buffer.get();
+            if (i < queued) {
+                nextBricks.add(brickList.get(index));
+            }
+        }
+    }
+
+    //At least one brick is always queued, getNextBrick shows it
+    @Override
+    public void checkState(ByteBuffer buffer, int offset) {
+        int queued = buffer.get(offset);
+        if (queued < 1 || queued > MAX_QUEUED) {
+            throw new IllegalArgumentException("Saved generator queues " + queued + " bricks");
+        }
+        for (int i = 0; i < queued; i++) {
+            Bricks.checkIndex(buffer.get(offset + 1 + i));
+        }
+    }
 }
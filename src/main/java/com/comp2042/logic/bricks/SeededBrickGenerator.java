@@ -0,0 +1,193 @@
+package com.comp2042.logic.bricks;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+//Reproducible brick stream driven by a SplitMix64 state, either uniformly random or dealt from shuffled 7-bags
+public class SeededBrickGenerator implements BrickGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    //Saves and replays store the lookahead and the queue head as signed bytes
+    public static final int MAX_LOOKAHEAD = Byte.MAX_VALUE;
+
+    private final boolean sevenBag;
+    private final Brick[] queue;
+    private final int[] bag = new int[Bricks.all().size()];
+    private final List<Brick> preview = new PreviewList();
+    private long seed;
+    private long state;
+    private int head;
+    private int bagIndex;
+
+    public SeededBrickGenerator(long seed) {
+        this(seed, true, 5);
+    }
+
+    public SeededBrickGenerator(long seed, boolean sevenBag, int lookahead) {
+        if (lookahead < 1 || lookahead > MAX_LOOKAHEAD) {
+            throw new IllegalArgumentException("lookahead must be between 1 and " + MAX_LOOKAHEAD);
+        }
+        this.sevenBag = sevenBag;
+        queue = new Brick[lookahead];
+        reset(seed);
+    }
+
+    public void reset(long seed) {
+        this.seed = seed;
+        state = seed;
+        head = 0;
+        bagIndex = bag.length;
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = nextFromSource();
+        }
+    }
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = queue[head];
+        queue[head] = nextFromSource();
+        head = (head + 1) % queue.length;
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return queue[head];
+    }
+
+    //Read-only view over the lookahead queue, it follows the generator without copying
+    public List<Brick> getPreview() {
+        return preview;
+    }
+
+    //Independent generator seeded from this stream, so workers can be forked reproducibly
+    public SeededBrickGenerator split() {
+        return new SeededBrickGenerator(mix(nextLong()), sevenBag, queue.length);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isSevenBag() {
+        return sevenBag;
+    }
+
+    public int getLookahead() {
+        return queue.length;
+    }
+
+    //Bytes written by writeState for a generator with the given lookahead
+    public static int stateSize(int lookahead) {
+        return 2 * Long.BYTES + 4 + Bricks.all().size() + lookahead;
+    }
+
+    @Override
+    public int getStateSize() {
+        return stateSize(queue.length);
+    }
+
+    //Seed, SplitMix64 state, bag and lookahead queue, enough to continue the exact same stream after readState
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        buffer.putLong(seed).putLong(state).put((byte) (sevenBag ? 1 : 0)).put((byte) queue.length)
+                .put((byte) head).put((byte) bagIndex);
+        for (int brick : bag) {
+            buffer.put((byte) brick);
+        }
+        for (Brick brick : queue) {
+            buffer.put((byte) Bricks.indexOf(brick));
+        }
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        long savedSeed = buffer.getLong();
+        long savedState = buffer.getLong();
+        boolean savedSevenBag = buffer.get() != 0;
+        int lookahead = buffer.get();
+        if (savedSevenBag != sevenBag || lookahead != queue.length) {
+            throw new IllegalArgumentException("Saved generator has a different mode or lookahead");
+        }
+        seed = savedSeed;
+        state = savedState;
+        head = buffer.get();
+        bagIndex = buffer.get();
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = buffer.get();
+        }
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = Bricks.get(buffer.get());
+        }
+    }
+
+    @Override
+    public void checkState(ByteBuffer buffer, int offset) {
+        boolean savedSevenBag = buffer.get(offset + 2 * Long.BYTES) != 0;
+        int lookahead = buffer.get(offset + 2 * Long.BYTES + 1);
+        if (savedSevenBag != sevenBag || lookahead != queue.length) {
+            throw new IllegalArgumentException("Saved generator has a different mode or lookahead");
+        }
+        int savedHead = buffer.get(offset + 2 * Long.BYTES + 2);
+        int savedBagIndex = buffer.get(offset + 2 * Long.BYTES + 3);
+        if (savedHead < 0 || savedHead >= queue.length || savedBagIndex < 0 || savedBagIndex > bag.length) {
+            throw new IllegalArgumentException("Saved generator position is out of range");
+        }
+        int bricks = offset + 2 * Long.BYTES + 4;
+        for (int i = 0; i < bag.length + queue.length; i++) {
+            Bricks.checkIndex(buffer.get(bricks + i));
+        }
+    }
+
+    private Brick nextFromSource() {
+        if (!sevenBag) {
+            return Bricks.get(nextInt(bag.length));
+        }
+        if (bagIndex == bag.length) {
+            for (int i = 0; i < bag.length; i++) {
+                bag[i] = i;
+            }
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                int tmp = bag[i];
+                bag[i] = bag[j];
+                bag[j] = tmp;
+            }
+            bagIndex = 0;
+        }
+        return Bricks.get(bag[bagIndex++]);
+    }
+
+    private int nextInt(int bound) {
+        return (int) ((nextLong() >>> 1) % bound);
+    }
+
+    private long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private final class PreviewList extends AbstractList<Brick> implements RandomAccess {
+
+        @Override
+        public Brick get(int index) {
+            if (index < 0 || index >= queue.length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return queue[(head + index) % queue.length];
+        }
+
+        @Override
+        public int size() {
+            return queue.length;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.logic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+//Process wide game loop metrics, switched on with -Dtetris.metrics=true so the hot paths cost nothing otherwise
+public final class GameMetrics {
+
+    public enum Metric {
+        DOWN_EVENT("ns"),
+        LEFT_EVENT("ns"),
+        RIGHT_EVENT("ns"),
+        ROTATE_EVENT("ns"),
+        HARD_DROP_EVENT("ns"),
+        CLEAR_ROWS("ns"),
+        REFRESH_BRICK("ns"),
+        REFRESH_BACKGROUND("ns"),
+        INPUT_TO_RENDER("ns"),
+        TICK_JITTER("ns"),
+        ALLOCATION_PER_TICK("bytes");
+
+        private final String unit;
+
+        Metric(String unit) {
+            this.unit = unit;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+    }
+
+    public static final boolean ENABLED = Boolean.getBoolean("tetris.metrics");
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private static final LatencyHistogram[] HISTOGRAMS = new LatencyHistogram[Metric.values().length];
+
+    static {
+        for (int i = 0; i < HISTOGRAMS.length; i++) {
+            HISTOGRAMS[i] = new LatencyHistogram();
+        }
+    }
+
+    private GameMetrics() {
+
+    }
+
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static void end(Metric metric, long start) {
+        if (ENABLED) {
+            long duration = System.nanoTime() - start;
+            HISTOGRAMS[metric.ordinal()].record(duration);
+            GameOperationEvent event = new GameOperationEvent();
+            if (event.shouldCommit()) {
+                event.operation = metric.name();
+                event.duration = duration;
+                event.commit();
+            }
+        }
+    }
+
+    public static void record(Metric metric, long value) {
+        if (ENABLED) {
+            HISTOGRAMS[metric.ordinal()].record(value);
+        }
+    }
+
+    public static LatencyHistogram getHistogram(Metric metric) {
+        return HISTOGRAMS[metric.ordinal()];
+    }
+
+    //Bytes allocated so far by the calling thread, or -1 when the JVM cannot tell
+    public static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    public static String summary() {
+        StringBuilder builder = new StringBuilder();
+        for (Metric metric : Metric.values()) {
+            LatencyHistogram histogram = getHistogram(metric);
+            builder.append(String.format(Locale.ROOT, "%-19s n=%-8d p50=%-9d p99=%-9d max=%-9d %s%n",
+                    metric.name(), histogram.getCount(), histogram.getPercentile(50),
+                    histogram.getPercentile(99), histogram.getMax(), metric.getUnit()));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.comp2042.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.comp2042.GameOperation")
+@Label("Game Operation")
+@Category("Tetris")
+@Description("Duration of an instrumented game loop operation")
+public class GameOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long duration;
+}
@@ -0,0 +1,51 @@
+package com.comp2042.logic.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+//Appends GameMetrics.summary() to a local file at a fixed period on a daemon thread
+public class MetricsDumper {
+
+    private final Path file;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-dumper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MetricsDumper(Path file) {
+        this.file = file;
+    }
+
+    public static void startFromSystemProperties() {
+        String dumpFile = System.getProperty("tetris.metrics.file");
+        if (GameMetrics.ENABLED && dumpFile != null) {
+            new MetricsDumper(Paths.get(dumpFile)).start(Integer.getInteger("tetris.metrics.periodSeconds", 10));
+        }
+    }
+
+    public void start(int periodSeconds) {
+        executor.scheduleAtFixedRate(this::dump, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    public void dump() {
+        String text = "# " + Instant.now() + System.lineSeparator() + GameMetrics.summary();
+        try {
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Could not write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+
+    public void stop() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.GameEngine;
+
+import java.nio.ByteBuffer;
+
+//Replay layout: [int length][header][records...] with varint tick deltas, see ReplayWriter
+public final class ReplayFormat {
+
+    public static final int MAGIC = 0x5452504C;
+    public static final short VERSION = 1;
+
+    //Bits of the header flags byte, version 1 files only ever set FLAG_SEVEN_BAG
+    public static final int FLAG_SEVEN_BAG = 1;
+    public static final int FLAG_TWENTY_G = 2;
+    public static final int FLAG_SRS = 4;
+
+    public static final byte TAG_CHECKPOINT = 1;
+    public static final byte TAG_END = 2;
+    //Event tags are TAG_EVENT | type << 1 | source
+    public static final byte TAG_EVENT = 0x10;
+
+    public static final int CHECKPOINT_INTERVAL = 16;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ReplayFormat() {
+
+    }
+
+    public static long hash(GameEngine engine) {
+        long hash = FNV_OFFSET;
+        int[][] matrix = engine.getBoard().getBoardMatrix();
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                hash = (hash ^ cell) * FNV_PRIME;
+            }
+        }
+        hash = (hash ^ engine.getScore()) * FNV_PRIME;
+        hash = (hash ^ engine.getLinesCleared()) * FNV_PRIME;
+        return (hash ^ engine.getPieceCount()) * FNV_PRIME;
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.logic.replay;
+
+public final class ReplayResult {
+
+    private final long offset;
+    private final boolean valid;
+    private final String message;
+    private final int claimedScore;
+    private final int simulatedScore;
+
+    public ReplayResult(long offset, boolean valid, String message, int claimedScore, int simulatedScore) {
+        this.offset = offset;
+        this.valid = valid;
+        this.message = message;
+        this.claimedScore = claimedScore;
+        this.simulatedScore = simulatedScore;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int getClaimedScore() {
+        return claimedScore;
+    }
+
+    public int getSimulatedScore() {
+        return simulatedScore;
+    }
+
+    @Override
+    public String toString() {
+        return "replay@" + offset + (valid ? " OK" : " INVALID: " + message)
+                + " claimed=" + claimedScore + " simulated=" + simulatedScore;
+    }
+}
@@ -0,0 +1,167 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+//Re-simulates recorded games headless and checks every checkpoint and the final result
+public class ReplayVerifier {
+
+    private static final long MAX_MAPPING = Integer.MAX_VALUE;
+    private static final int SCAN_CHUNK = 64 * 1024;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final EventSource[] EVENT_SOURCES = EventSource.values();
+
+    private final BoardType boardType;
+
+    public ReplayVerifier() {
+        this(BoardType.BITBOARD);
+    }
+
+    public ReplayVerifier(BoardType boardType) {
+        this.boardType = boardType;
+    }
+
+    public ReplayResult verify(ByteBuffer replay, long offset) {
+        int claimedScore = -1;
+        GameEngine engine = null;
+        try {
+            if (replay.getInt() != ReplayFormat.MAGIC) {
+                return new ReplayResult(offset, false, "bad magic", -1, -1);
+            }
+            if (replay.getShort() != ReplayFormat.VERSION) {
+                return new ReplayResult(offset, false, "unsupported version", -1, -1);
+            }
+            int width = replay.getShort();
+            int height = replay.getShort();
+            int flags = replay.get();
+            int lookahead = replay.get();
+            long seed = replay.getLong();
+            SeededBrickGenerator generator = new SeededBrickGenerator(seed, (flags & ReplayFormat.FLAG_SEVEN_BAG) != 0, lookahead);
+            RotationSystem rotationSystem = (flags & ReplayFormat.FLAG_SRS) != 0 ? RotationSystem.SRS : RotationSystem.CLASSIC;
+            engine = new GameEngine(boardType.create(width, height, generator, rotationSystem),
+                    (flags & ReplayFormat.FLAG_TWENTY_G) != 0);
+            long tick = 0;
+            while (replay.hasRemaining()) {
+                byte tag = replay.get();
+                tick += ReplayFormat.getVarLong(replay);
+                if ((tag & ReplayFormat.TAG_EVENT) != 0) {
+                    apply(engine, EVENT_TYPES[(tag & 0x0F) >> 1], EVENT_SOURCES[tag & 1]);
+                    if (engine.getTickCount() != tick) {
+                        return new ReplayResult(offset, false, "tick mismatch at " + tick, claimedScore, engine.getScore());
+                    }
+                    continue;
+                }
+                long hash = replay.getLong();
+                claimedScore = replay.getInt();
+                if (hash != ReplayFormat.hash(engine) || claimedScore != engine.getScore()) {
+                    return new ReplayResult(offset, false, "state mismatch at tick " + tick, claimedScore, engine.getScore());
+                }
+                if (tag == ReplayFormat.TAG_END) {
+                    long lines = ReplayFormat.getVarLong(replay);
+                    long pieces = ReplayFormat.getVarLong(replay);
+                    if (lines != engine.getLinesCleared() || pieces != engine.getPieceCount()) {
+                        return new ReplayResult(offset, false, "line or piece count mismatch", claimedScore, engine.getScore());
+                    }
+                    return new ReplayResult(offset, true, "", claimedScore, engine.getScore());
+                }
+            }
+            return new ReplayResult(offset, false, "missing end record", claimedScore, engine.getScore());
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            return new ReplayResult(offset, false, "corrupt replay: " + e, claimedScore, engine == null ? -1 : engine.getScore());
+        }
+    }
+
+    private static void apply(GameEngine engine, EventType type, EventSource source) {
+        if (type == EventType.DOWN && source == EventSource.THREAD) {
+            engine.tick();
+        } else {
+            engine.step(type);
+        }
+    }
+
+    //Memory-maps the archive and verifies its replays in parallel on the common fork-join pool. A frame whose length
+    //was never written, because the game was still running when the writer died, or that runs past the end of the
+    //file is reported as invalid and verification carries on from the next replay header after it.
+    public List<ReplayResult> verifyArchive(Path archive) throws IOException {
+        List<ByteBuffer> replays = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long mappingStart = 0;
+            MappedByteBuffer mapping = null;
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            long position = 0;
+            while (position + Integer.BYTES <= size) {
+                length.clear();
+                channel.read(length, position);
+                int replayLength = length.getInt(0);
+                long replayStart = position + Integer.BYTES;
+                if (replayLength <= 0 || replayStart + replayLength > size) {
+                    replays.add(null);
+                    offsets.add(position);
+                    position = nextFrame(channel, replayStart + Integer.BYTES, size);
+                    continue;
+                }
+                if (mapping == null || replayStart + replayLength > mappingStart + mapping.capacity()) {
+                    mappingStart = position;
+                    mapping = channel.map(FileChannel.MapMode.READ_ONLY, mappingStart, Math.min(MAX_MAPPING, size - mappingStart));
+                }
+                replays.add(mapping.slice((int) (replayStart - mappingStart), replayLength));
+                offsets.add(position);
+                position = replayStart + replayLength;
+            }
+        }
+        return IntStream.range(0, replays.size()).parallel()
+                .mapToObj(i -> replays.get(i) == null
+                        ? new ReplayResult(offsets.get(i), false, "unfinished replay", -1, -1)
+                        : verify(replays.get(i), offsets.get(i)))
+                .collect(Collectors.toList());
+    }
+
+    //Position of the length in front of the first replay header at or after from, or size when there is none
+    private static long nextFrame(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(SCAN_CHUNK);
+        //Consecutive chunks overlap by three bytes so a header split between them is still found
+        for (long start = from; start + Integer.BYTES <= size; start += SCAN_CHUNK - Integer.BYTES + 1) {
+            chunk.clear();
+            while (chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) > 0) {
+                //read until the chunk is full or the file ends
+            }
+            for (int i = 0; i + Integer.BYTES <= chunk.position(); i++) {
+                if (chunk.getInt(i) == ReplayFormat.MAGIC) {
+                    return start + i - Integer.BYTES;
+                }
+            }
+        }
+        return size;
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<ReplayResult> results = new ReplayVerifier().verifyArchive(Paths.get(args[0]));
+        long invalid = 0;
+        for (ReplayResult result : results) {
+            if (!result.isValid()) {
+                invalid++;
+                System.out.println(result);
+            }
+        }
+        System.out.println(results.size() + " replays verified, " + invalid + " invalid");
+    }
+}
@@ -0,0 +1,143 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//Appends framed replays to a channel through a reused direct buffer, recording an event allocates nothing
+public class ReplayWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RECORD_SIZE = 64;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocateDirect(Integer.BYTES);
+    private long writtenPosition;
+    private long replayStart = -1;
+    private long lastTick;
+
+    public ReplayWriter(FileChannel channel) throws IOException {
+        this.channel = channel;
+        writtenPosition = channel.size();
+    }
+
+    public static ReplayWriter append(Path path) throws IOException {
+        return new ReplayWriter(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+    }
+
+    public void beginGame(SeededBrickGenerator generator, int width, int height, boolean twentyG,
+                          RotationSystem rotationSystem) {
+        if (replayStart >= 0) {
+            throw new IllegalStateException("previous replay was not ended");
+        }
+        ensureCapacity();
+        replayStart = writtenPosition + buffer.position();
+        lastTick = 0;
+        buffer.putInt(0);
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.putShort(ReplayFormat.VERSION);
+        buffer.putShort((short) width);
+        buffer.putShort((short) height);
+        buffer.put((byte) ((generator.isSevenBag() ? ReplayFormat.FLAG_SEVEN_BAG : 0)
+                | (twentyG ? ReplayFormat.FLAG_TWENTY_G : 0)
+                | (rotationSystem == RotationSystem.SRS ? ReplayFormat.FLAG_SRS : 0)));
+        buffer.put((byte) generator.getLookahead());
+        buffer.putLong(generator.getSeed());
+    }
+
+    //Records one input applied to the engine, followed by a checkpoint or the end of the game when due
+    public void recordStep(EventType type, EventSource source, GameEngine engine) {
+        if (!isRecording()) {
+            return;
+        }
+        event(type, source, engine.getTickCount());
+        if (engine.isGameOver()) {
+            endGame(engine);
+        } else if (engine.getLastClearRow() != null && engine.getPieceCount() % ReplayFormat.CHECKPOINT_INTERVAL == 0) {
+            checkpoint(engine);
+        }
+    }
+
+    public void event(EventType type, EventSource source, long tick) {
+        ensureCapacity();
+        buffer.put((byte) (ReplayFormat.TAG_EVENT | type.ordinal() << 1 | source.ordinal()));
+        putTick(tick);
+    }
+
+    public void checkpoint(GameEngine engine) {
+        ensureCapacity();
+        buffer.put(ReplayFormat.TAG_CHECKPOINT);
+        putTick(engine.getTickCount());
+        buffer.putLong(ReplayFormat.hash(engine));
+        buffer.putInt(engine.getScore());
+    }
+
+    public void endGame(GameEngine engine) {
+        if (replayStart < 0) {
+            return;
+        }
+        ensureCapacity();
+        buffer.put(ReplayFormat.TAG_END);
+        putTick(engine.getTickCount());
+        buffer.putLong(ReplayFormat.hash(engine));
+        buffer.putInt(engine.getScore());
+        ReplayFormat.putVarLong(buffer, engine.getLinesCleared());
+        ReplayFormat.putVarLong(buffer, engine.getPieceCount());
+        flush();
+        lengthBuffer.clear();
+        lengthBuffer.putInt((int) (writtenPosition - replayStart - Integer.BYTES));
+        lengthBuffer.flip();
+        try {
+            while (lengthBuffer.hasRemaining()) {
+                channel.write(lengthBuffer, replayStart + lengthBuffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        replayStart = -1;
+    }
+
+    public boolean isRecording() {
+        return replayStart >= 0;
+    }
+
+    private void putTick(long tick) {
+        ReplayFormat.putVarLong(buffer, tick - lastTick);
+        lastTick = tick;
+    }
+
+    private void ensureCapacity() {
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                writtenPosition += channel.write(buffer, writtenPosition);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.logic.save;
+
+import com.comp2042.GameEngine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+//Reusable copy of a whole game for forking it, e.g. to try moves in a search or branch a server session. The
+//buffer is sized once, so capture and restore allocate nothing, and a state captured from one engine restores
+//into any other with the same board size and generator settings, whatever its board type.
+public final class GameState {
+
+    private final ByteBuffer buffer;
+
+    public GameState(GameEngine engine) {
+        //Never written to disk, so it can use the faster native order
+        buffer = ByteBuffer.allocate(SaveFormat.stateSize(engine)).order(ByteOrder.nativeOrder());
+    }
+
+    public void capture(GameEngine engine) {
+        buffer.clear();
+        SaveFormat.writeState(engine, buffer);
+    }
+
+    public void restore(GameEngine engine) {
+        buffer.clear();
+        SaveFormat.readState(buffer, engine);
+    }
+
+    public void copyFrom(GameState other) {
+        buffer.clear();
+        buffer.put(other.buffer.array());
+    }
+}
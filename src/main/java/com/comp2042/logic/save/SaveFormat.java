@@ -0,0 +1,85 @@
+package com.comp2042.logic.save;
+
+import com.comp2042.Board;
+import com.comp2042.GameEngine;
+
+import java.nio.ByteBuffer;
+
+//Saved game layout: [int magic][short version][byte rows][byte columns][byte flags][byte rotation system]
+//[int state length] then the board state (see Board.writeState) and the engine counters. The header is checked
+//against the target game and the state is checked with Board.checkState before any of it is touched, so a save
+//from other rules or a corrupt or truncated file is rejected cleanly.
+public final class SaveFormat {
+
+    public static final int MAGIC = 0x54534156;
+    public static final short VERSION = 1;
+
+    public static final int FLAG_TWENTY_G = 1;
+
+    public static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + 4 + Integer.BYTES;
+
+    private SaveFormat() {
+
+    }
+
+    //Board and engine state without the header, what a fork copies
+    public static int stateSize(GameEngine engine) {
+        return engine.getBoard().getStateSize() + GameEngine.STATE_SIZE;
+    }
+
+    public static int size(GameEngine engine) {
+        return HEADER_SIZE + stateSize(engine);
+    }
+
+    public static void write(GameEngine engine, ByteBuffer buffer) {
+        Board board = engine.getBoard();
+        int[][] matrix = board.getBoardMatrix();
+        buffer.putInt(MAGIC).putShort(VERSION).put((byte) matrix.length).put((byte) matrix[0].length)
+                .put((byte) (engine.isTwentyG() ? FLAG_TWENTY_G : 0)).put((byte) board.getRotationSystem().ordinal())
+                .putInt(stateSize(engine));
+        writeState(engine, buffer);
+    }
+
+    //Throws IllegalArgumentException, leaving the game as it was, when the save does not fit the game or is corrupt
+    public static void read(ByteBuffer buffer, GameEngine engine) {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IllegalArgumentException("Save is truncated");
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a saved game");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported save version " + version);
+        }
+        Board board = engine.getBoard();
+        int[][] matrix = board.getBoardMatrix();
+        int rows = buffer.get();
+        int columns = buffer.get();
+        if (rows != matrix.length || columns != matrix[0].length) {
+            throw new IllegalArgumentException("Save is for a " + rows + "x" + columns + " board");
+        }
+        boolean twentyG = (buffer.get() & FLAG_TWENTY_G) != 0;
+        int rotationSystem = buffer.get();
+        if (twentyG != engine.isTwentyG() || rotationSystem != board.getRotationSystem().ordinal()) {
+            throw new IllegalArgumentException("Save was played with other rules");
+        }
+        if (buffer.getInt() != stateSize(engine)) {
+            throw new IllegalArgumentException("Save was played with another brick generator");
+        }
+        int offset = buffer.position();
+        board.checkState(buffer, offset);
+        GameEngine.checkState(buffer, offset + board.getStateSize());
+        readState(buffer, engine);
+    }
+
+    static void writeState(GameEngine engine, ByteBuffer buffer) {
+        engine.getBoard().writeState(buffer);
+        engine.writeState(buffer);
+    }
+
+    static void readState(ByteBuffer buffer, GameEngine engine) {
+        engine.getBoard().readState(buffer);
+        engine.readState(buffer);
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.logic.save;
+
+import com.comp2042.GameEngine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//Save file mapped into memory, so saving is a few hundred byte writes into the page cache with no system call.
+//The OS writes it out on its own; force waits for that, for callers that must survive a machine crash.
+public final class SaveSlot implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private SaveSlot(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    //Creates the file when missing, sized for saves of this engine's game
+    public static SaveSlot open(Path path, GameEngine engine) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return new SaveSlot(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, SaveFormat.size(engine)));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void save(GameEngine engine) {
+        buffer.clear();
+        SaveFormat.write(engine, buffer);
+    }
+
+    //Returns false when nothing was saved yet, the new file is all zeros
+    public boolean load(GameEngine engine) {
+        if (buffer.getInt(0) == 0) {
+            return false;
+        }
+        buffer.clear();
+        SaveFormat.read(buffer, engine);
+        return true;
+    }
+
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,137 @@
+package com.comp2042.logic.server;
+
+import com.comp2042.BoardType;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.ai.ZobristKeys;
+import com.comp2042.logic.metrics.LatencyHistogram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Hosts one GameSession per TCP connection. Every connection and every gravity tick runs on a virtual thread, so
+//an idle session costs its board, a parked reader and one timeout in the shared wheel instead of an OS thread.
+public class GameServer implements Closeable {
+
+    private static final int BACKLOG = 4096;
+    private static final long WHEEL_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WHEEL_SIZE = 512;
+    //A power of two, so a thread id picks a stripe with a mask
+    private static final int TICK_LATENCY_STRIPES = 64;
+
+    private final BoardType boardType;
+    private final int width;
+    private final int height;
+    private final RotationSystem rotationSystem;
+    private final long seed;
+    private final long gravityNanos;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HashedWheelTimer timer = new HashedWheelTimer(WHEEL_TICK_NANOS, WHEEL_SIZE, executor);
+    private final Set<GameSession> sessions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextSessionId = new AtomicLong();
+    private final LatencyHistogram[] tickLatency = new LatencyHistogram[TICK_LATENCY_STRIPES];
+    private ServerSocket serverSocket;
+
+    public GameServer(BoardType boardType, int width, int height, RotationSystem rotationSystem, long seed,
+                      long gravityNanos) {
+        this.boardType = boardType;
+        this.width = width;
+        this.height = height;
+        this.rotationSystem = rotationSystem;
+        this.seed = seed;
+        this.gravityNanos = gravityNanos;
+        for (int i = 0; i < tickLatency.length; i++) {
+            tickLatency[i] = new LatencyHistogram();
+        }
+    }
+
+    //Binds to the loopback address, port 0 picks a free port
+    public void start(int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        executor.execute(this::acceptLoop);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                long sessionSeed = ZobristKeys.mix(seed + nextSessionId.getAndIncrement());
+                GameSession session = new GameSession(this, socket, boardType, width, height, rotationSystem,
+                        sessionSeed, gravityNanos);
+                sessions.add(session);
+                executor.execute(session);
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    HashedWheelTimer getTimer() {
+        return timer;
+    }
+
+    void sessionClosed(GameSession session) {
+        sessions.remove(session);
+    }
+
+    //Nanoseconds from a gravity deadline until its frame was written. Every tick runs on its own virtual thread,
+    //whose id picks one of the stripes, so a tick only waits for the rare tick that picked the same stripe.
+    void recordTickLatency(long nanos) {
+        LatencyHistogram stripe = tickLatency[(int) Thread.currentThread().threadId() & (TICK_LATENCY_STRIPES - 1)];
+        synchronized (stripe) {
+            stripe.record(nanos);
+        }
+    }
+
+    //Merges the stripes into a new histogram, for reports
+    public LatencyHistogram getTickLatency() {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (LatencyHistogram stripe : tickLatency) {
+            synchronized (stripe) {
+                merged.add(stripe);
+            }
+        }
+        return merged;
+    }
+
+    public void resetTickLatency() {
+        for (LatencyHistogram stripe : tickLatency) {
+            synchronized (stripe) {
+                stripe.reset();
+            }
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        for (GameSession session : sessions) {
+            session.close();
+        }
+        timer.close();
+        executor.shutdown();
+    }
+}
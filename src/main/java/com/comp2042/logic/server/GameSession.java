@@ -0,0 +1,216 @@
+package com.comp2042.logic.server;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.MoveEvent;
+import com.comp2042.RotationSystem;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.Bricks;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+
+//One remote game: a board, generator and gravity timeout per connection. The reader runs on its own virtual
+//thread and blocks on the socket, gravity ticks arrive from the shared wheel timer on short lived virtual threads,
+//and the lock keeps the two from interleaving engine calls or frames on the wire.
+public class GameSession implements Runnable {
+
+    private static final MoveEvent[] USER_EVENTS = userEvents();
+    private static final MoveEvent TICK_EVENT = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final GameServer server;
+    private final Socket socket;
+    private final SessionController controller;
+    private final GameEngine engine;
+    private final long seed;
+    private final long gravityNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer frame;
+    private final Runnable gravityTask = this::gravityTick;
+    private OutputStream out;
+    private HashedWheelTimer.Timeout gravity;
+    private long lastPieceCount;
+    private volatile boolean closed;
+
+    public GameSession(GameServer server, Socket socket, BoardType boardType, int width, int height,
+                       RotationSystem rotationSystem, long seed, long gravityNanos) {
+        this.server = server;
+        this.socket = socket;
+        this.seed = seed;
+        this.gravityNanos = gravityNanos;
+        SeededBrickGenerator generator = new SeededBrickGenerator(seed, true, 1);
+        engine = new GameEngine(boardType.create(width, height, generator, rotationSystem));
+        controller = new SessionController(engine);
+        frame = ByteBuffer.allocate(ServerProtocol.maxFrameLength(width));
+    }
+
+    private static MoveEvent[] userEvents() {
+        EventType[] types = EventType.values();
+        MoveEvent[] events = new MoveEvent[types.length];
+        for (int i = 0; i < types.length; i++) {
+            events[i] = new MoveEvent(types[i], EventSource.USER);
+        }
+        return events;
+    }
+
+    @Override
+    public void run() {
+        try {
+            socket.setTcpNoDelay(true);
+            out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            lock.lock();
+            try {
+                int[][] matrix = engine.getBoard().getBoardMatrix();
+                frame.clear();
+                ServerProtocol.putWelcome(frame, matrix.length, matrix[0].length, seed);
+                send();
+                sendState(ServerProtocol.STATE_REPLY);
+                scheduleGravity(System.nanoTime() + gravityNanos);
+            } finally {
+                lock.unlock();
+            }
+            int code;
+            while ((code = in.read()) >= 0) {
+                if (!handle(code)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            //The client went away, the session ends the same way as on a clean close
+        } finally {
+            close();
+        }
+    }
+
+    //Returns false for a byte outside the protocol, which drops the connection
+    private boolean handle(int code) throws IOException {
+        if (code != ServerProtocol.NEW_GAME && code >= USER_EVENTS.length) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (code == ServerProtocol.NEW_GAME) {
+                controller.createNewGame();
+                lastPieceCount = 0;
+                scheduleGravity(System.nanoTime() + gravityNanos);
+            } else if (!engine.isGameOver()) {
+                apply(USER_EVENTS[code]);
+            }
+            sendState(ServerProtocol.STATE_REPLY);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(MoveEvent event) {
+        switch (event.getEventType()) {
+            case LEFT:
+                controller.onLeftEvent(event);
+                break;
+            case RIGHT:
+                controller.onRightEvent(event);
+                break;
+            case ROTATE:
+            case ROTATE_RIGHT:
+                controller.onRotateEvent(event);
+                break;
+            case HARD_DROP:
+                controller.onHardDropEvent(event);
+                break;
+            case DOWN:
+            default:
+                controller.onDownEvent(event);
+                break;
+        }
+    }
+
+    private void gravityTick() {
+        lock.lock();
+        try {
+            long deadline = gravity.getDeadline();
+            //A timeout replaced by NEW_GAME may already have been handed out, the current one is still pending
+            if (closed || engine.isGameOver() || System.nanoTime() < deadline) {
+                return;
+            }
+            controller.onDownEvent(TICK_EVENT);
+            sendState(0);
+            long now = System.nanoTime();
+            server.recordTickLatency(now - deadline);
+            if (!engine.isGameOver()) {
+                scheduleGravity(Math.max(deadline + gravityNanos, now));
+            }
+        } catch (IOException e) {
+            closeSocket();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleGravity(long deadline) {
+        if (gravity != null) {
+            gravity.cancel();
+        }
+        gravity = server.getTimer().schedule(gravityTask, deadline);
+    }
+
+    //Sends BOARD when a brick locked since the last frame, then STATE, then GAME_OVER once the game has ended
+    private void sendState(int flags) throws IOException {
+        frame.clear();
+        if (engine.getPieceCount() != lastPieceCount) {
+            lastPieceCount = engine.getPieceCount();
+            ServerProtocol.putBoard(frame, engine.getBoard().getBoardMatrix());
+            send();
+        }
+        ViewData view = engine.getBoard().getViewData();
+        ServerProtocol.putState(frame, flags, engine.getTickCount(), engine.getScore(),
+                Bricks.indexOf(engine.getBoard().getCurrentBrick()), engine.getBoard().getCurrentRotation(),
+                view.getxPosition(), view.getyPosition());
+        send();
+        if (engine.isGameOver()) {
+            ServerProtocol.putGameOver(frame, engine.getScore(), engine.getLinesCleared(), engine.getPieceCount());
+            send();
+        }
+    }
+
+    private void send() throws IOException {
+        out.write(frame.array(), 0, frame.position());
+        frame.clear();
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (gravity != null) {
+                gravity.cancel();
+            }
+        } finally {
+            lock.unlock();
+        }
+        closeSocket();
+        server.sessionClosed(this);
+    }
+
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            //Already closed
+        }
+    }
+}
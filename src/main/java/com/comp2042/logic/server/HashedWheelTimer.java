@@ -0,0 +1,129 @@
+package com.comp2042.logic.server;
+
+import java.io.Closeable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+
+//One thread advancing a cursor over a ring of buckets every tickNanos, in the style of Netty's HashedWheelTimer.
+//A timeout lands in the bucket of its deadline tick with the number of full turns left, so scheduling is O(1)
+//and thousands of periodic game timers share a single thread. Timeouts from other threads go through a
+//lock-free queue that only the wheel thread drains; expired tasks are handed to the executor.
+public final class HashedWheelTimer implements Closeable {
+
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private Timeout next;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private final long tickNanos;
+    private final int mask;
+    private final Timeout[] buckets;
+    private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final long startTime;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedWheelTimer(long tickNanos, int wheelSize, Executor executor) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheel size must be a power of two: " + wheelSize);
+        }
+        this.tickNanos = tickNanos;
+        this.executor = executor;
+        mask = wheelSize - 1;
+        buckets = new Timeout[wheelSize];
+        startTime = System.nanoTime();
+        worker = new Thread(this::run, "wheel-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    //Runs task on the executor once System.nanoTime() has passed deadline, at most one wheel tick late
+    public Timeout schedule(Runnable task, long deadline) {
+        Timeout timeout = new Timeout(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            long tickDeadline = startTime + (tick + 1) * tickNanos;
+            long wait;
+            while ((wait = tickDeadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+                if (!running) {
+                    return;
+                }
+            }
+            transferPending();
+            expire((int) tick & mask);
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = Math.max(0, timeout.deadline - startTime) / tickNanos;
+            long ticks = Math.max(calculated, tick);
+            timeout.remainingRounds = (ticks - tick) / buckets.length;
+            int index = (int) ticks & mask;
+            timeout.next = buckets[index];
+            buckets[index] = timeout;
+        }
+    }
+
+    private void expire(int index) {
+        Timeout previous = null;
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            boolean remove = timeout.cancelled;
+            if (!remove && timeout.remainingRounds <= 0) {
+                remove = true;
+                executor.execute(timeout.task);
+            } else if (!remove) {
+                timeout.remainingRounds--;
+            }
+            if (remove) {
+                if (previous == null) {
+                    buckets[index] = next;
+                } else {
+                    previous.next = next;
+                }
+                timeout.next = null;
+            } else {
+                previous = timeout;
+            }
+            timeout = next;
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+}
@@ -0,0 +1,188 @@
+package com.comp2042.logic.server;
+
+import com.comp2042.EventType;
+import com.comp2042.logic.metrics.LatencyHistogram;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Opens many client connections on virtual threads. Each client sends a random input every inputNanos, waits for
+//the STATE frame answering it and records the round trip, reading gravity frames in between. A finished game is
+//restarted with NEW_GAME so every session stays busy for the whole run.
+public class LoadGenerator {
+
+    private static final int INPUT_TYPES = EventType.values().length;
+
+    private final String host;
+    private final int port;
+    private final long inputNanos;
+    private final long seed;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LatencyHistogram roundTrip = new LatencyHistogram();
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong gamesOver = new AtomicLong();
+    private volatile boolean running = true;
+    private CountDownLatch finished;
+
+    public LoadGenerator(String host, int port, long inputNanos, long seed) {
+        this.host = host;
+        this.port = port;
+        this.inputNanos = inputNanos;
+        this.seed = seed;
+    }
+
+    //Starts sessions in batches of batchSize and returns once every client has connected or failed
+    public void start(int sessions, int batchSize) throws InterruptedException {
+        finished = new CountDownLatch(sessions);
+        CountDownLatch ready = new CountDownLatch(sessions);
+        for (int i = 0; i < sessions; i += batchSize) {
+            CountDownLatch batch = new CountDownLatch(Math.min(batchSize, sessions - i));
+            for (int j = i; j < i + batchSize && j < sessions; j++) {
+                long clientSeed = seed + j;
+                executor.execute(() -> runClient(clientSeed, batch, ready));
+            }
+            batch.await();
+        }
+        ready.await();
+    }
+
+    private void runClient(long clientSeed, CountDownLatch batch, CountDownLatch ready) {
+        SplittableRandom random = new SplittableRandom(clientSeed);
+        boolean counted = false;
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 256));
+            OutputStream out = socket.getOutputStream();
+            byte[] frame = new byte[256];
+            readFrame(in, frame, 0);
+            ByteBuffer welcome = ByteBuffer.wrap(frame);
+            welcome.get();
+            if (welcome.getInt() != ServerProtocol.MAGIC || welcome.getShort() != ServerProtocol.VERSION) {
+                throw new IOException("not a game server");
+            }
+            int rows = welcome.get();
+            connected.incrementAndGet();
+            counted = true;
+            batch.countDown();
+            ready.countDown();
+            //Offset the first input so clients do not all send on the same millisecond
+            long nextInput = System.nanoTime() + random.nextLong(inputNanos);
+            while (running) {
+                long wait = nextInput - System.nanoTime();
+                if (wait > 0 && in.available() == 0) {
+                    Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                }
+                boolean gameOver = drain(in, frame, rows);
+                if (gameOver || System.nanoTime() >= nextInput) {
+                    int code = gameOver ? ServerProtocol.NEW_GAME : random.nextInt(INPUT_TYPES);
+                    long sent = System.nanoTime();
+                    out.write(code);
+                    awaitReply(in, frame, rows);
+                    long rtt = System.nanoTime() - sent;
+                    synchronized (roundTrip) {
+                        roundTrip.record(rtt);
+                    }
+                    nextInput = sent + inputNanos;
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            if (!counted) {
+                failed.incrementAndGet();
+            }
+        } finally {
+            if (!counted) {
+                batch.countDown();
+                ready.countDown();
+            }
+            finished.countDown();
+        }
+    }
+
+    //Reads buffered frames without blocking, returns true when one of them was GAME_OVER
+    private boolean drain(DataInputStream in, byte[] frame, int rows) throws IOException {
+        boolean gameOver = false;
+        while (in.available() > 0) {
+            gameOver |= readFrame(in, frame, rows) == ServerProtocol.GAME_OVER;
+        }
+        return gameOver;
+    }
+
+    //Reads frames up to the STATE carrying STATE_REPLY, a GAME_OVER after it is left to the next drain
+    private void awaitReply(DataInputStream in, byte[] frame, int rows) throws IOException {
+        byte kind;
+        do {
+            kind = readFrame(in, frame, rows);
+        } while (kind != ServerProtocol.STATE || (frame[1] & ServerProtocol.STATE_REPLY) == 0);
+    }
+
+    private byte readFrame(DataInputStream in, byte[] frame, int rows) throws IOException {
+        byte kind = in.readByte();
+        int length = ServerProtocol.frameLength(kind, rows);
+        if (length < 0) {
+            throw new EOFException("unknown frame " + kind);
+        }
+        frame[0] = kind;
+        in.readFully(frame, 1, length - 1);
+        frames.incrementAndGet();
+        if (kind == ServerProtocol.GAME_OVER) {
+            gamesOver.incrementAndGet();
+        }
+        return kind;
+    }
+
+    public long getRoundTripPercentile(double percentile) {
+        synchronized (roundTrip) {
+            return roundTrip.getPercentile(percentile);
+        }
+    }
+
+    public long getRoundTripCount() {
+        synchronized (roundTrip) {
+            return roundTrip.getCount();
+        }
+    }
+
+    public void resetRoundTrip() {
+        synchronized (roundTrip) {
+            roundTrip.reset();
+        }
+    }
+
+    public int getConnected() {
+        return connected.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public long getFrames() {
+        return frames.get();
+    }
+
+    public long getGamesOver() {
+        return gamesOver.get();
+    }
+
+    //Stops every client and waits for their connections to close
+    public void stop() throws InterruptedException {
+        running = false;
+        if (finished != null) {
+            finished.await();
+        }
+        executor.shutdown();
+    }
+}
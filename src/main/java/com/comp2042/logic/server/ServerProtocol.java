@@ -0,0 +1,83 @@
+package com.comp2042.logic.server;
+
+import java.nio.ByteBuffer;
+
+//Binary protocol between GameServer and its clients, all numbers big endian. Clients send one byte per input,
+//an EventType ordinal or NEW_GAME. The server sends fixed size frames whose first byte is the frame kind:
+//WELCOME   magic int, version short, rows byte, columns byte, seed long
+//STATE     flags byte, tick int, score int, brick byte, rotation byte, x byte, y byte
+//BOARD     one short per row with bit c set when column c is filled
+//GAME_OVER score int, lines int, pieces int
+public final class ServerProtocol {
+
+    public static final int MAGIC = 0x54535256;
+    public static final short VERSION = 1;
+
+    public static final int NEW_GAME = 0x40;
+
+    public static final byte WELCOME = 1;
+    public static final byte STATE = 2;
+    public static final byte BOARD = 3;
+    public static final byte GAME_OVER = 4;
+
+    //STATE flag set when the frame answers a client input rather than a gravity tick
+    public static final int STATE_REPLY = 1;
+
+    public static final int WELCOME_LENGTH = 17;
+    public static final int STATE_LENGTH = 14;
+    public static final int GAME_OVER_LENGTH = 13;
+
+    private ServerProtocol() {
+
+    }
+
+    public static int boardLength(int rows) {
+        return 1 + 2 * rows;
+    }
+
+    public static int maxFrameLength(int rows) {
+        return Math.max(Math.max(WELCOME_LENGTH, STATE_LENGTH), Math.max(GAME_OVER_LENGTH, boardLength(rows)));
+    }
+
+    //Length of a frame of the given kind, or -1 for an unknown kind
+    public static int frameLength(byte kind, int rows) {
+        switch (kind) {
+            case WELCOME:
+                return WELCOME_LENGTH;
+            case STATE:
+                return STATE_LENGTH;
+            case BOARD:
+                return boardLength(rows);
+            case GAME_OVER:
+                return GAME_OVER_LENGTH;
+            default:
+                return -1;
+        }
+    }
+
+    public static void putWelcome(ByteBuffer buffer, int rows, int columns, long seed) {
+        buffer.put(WELCOME).putInt(MAGIC).putShort(VERSION).put((byte) rows).put((byte) columns).putLong(seed);
+    }
+
+    public static void putState(ByteBuffer buffer, int flags, long tick, int score, int brick, int rotation, int x, int y) {
+        buffer.put(STATE).put((byte) flags).putInt((int) tick).putInt(score)
+                .put((byte) brick).put((byte) rotation).put((byte) x).put((byte) y);
+    }
+
+    public static void putBoard(ByteBuffer buffer, int[][] boardMatrix) {
+        buffer.put(BOARD);
+        for (int[] row : boardMatrix) {
+            int mask = 0;
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] != 0) {
+                    mask |= 1 << j;
+                }
+            }
+            buffer.putShort((short) mask);
+        }
+    }
+
+    public static void putGameOver(ByteBuffer buffer, int score, long lines, long pieces) {
+        buffer.put(GAME_OVER).putInt(score).putInt((int) lines).putInt((int) pieces);
+    }
+}
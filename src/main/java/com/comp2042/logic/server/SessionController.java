@@ -0,0 +1,83 @@
+package com.comp2042.logic.server;
+
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.GameSnapshot;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.ViewData;
+
+//Headless counterpart of GameController: the same engine calls, with the view replaced by the session's frames
+public class SessionController implements InputEventListener {
+
+    private final GameEngine engine;
+
+    public SessionController(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (event.getEventSource() == EventSource.USER) {
+            engine.step(EventType.DOWN);
+        } else {
+            engine.tick();
+        }
+        return new DownData(engine.getLastClearRow(), engine.getBoard().getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        engine.step(EventType.LEFT);
+        return engine.getBoard().getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        engine.step(EventType.RIGHT);
+        return engine.getBoard().getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        engine.step(event.getEventType());
+        return engine.getBoard().getViewData();
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        engine.step(EventType.HARD_DROP);
+        return new DownData(engine.getLastClearRow(), engine.getBoard().getViewData());
+    }
+
+    @Override
+    public void createNewGame() {
+        engine.newGame();
+    }
+
+    //Sessions have no save slot, a server parks idle games with CompactGame instead
+    @Override
+    public void saveGame() {
+    }
+
+    @Override
+    public boolean loadGame() {
+        return false;
+    }
+
+    @Override
+    public boolean undo() {
+        return false;
+    }
+
+    @Override
+    public GameSnapshot getSnapshot() {
+        return engine.snapshot();
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+}
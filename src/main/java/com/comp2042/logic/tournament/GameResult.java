@@ -0,0 +1,63 @@
+package com.comp2042.logic.tournament;
+
+import java.util.Locale;
+
+public final class GameResult {
+
+    public static final String CSV_HEADER = "strategy,seed,lines,score,pieces,micros_per_piece,game_over";
+
+    private final String strategy;
+    private final long seed;
+    private final long lines;
+    private final int score;
+    private final long pieces;
+    private final long nanos;
+    private final boolean gameOver;
+
+    public GameResult(String strategy, long seed, long lines, int score, long pieces, long nanos, boolean gameOver) {
+        this.strategy = strategy;
+        this.seed = seed;
+        this.lines = lines;
+        this.score = score;
+        this.pieces = pieces;
+        this.nanos = nanos;
+        this.gameOver = gameOver;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public double getMicrosPerPiece() {
+        return nanos / 1000.0 / pieces;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public String toCsv() {
+        return String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.3f,%b", strategy, seed, lines, score, pieces,
+                getMicrosPerPiece(), gameOver);
+    }
+}
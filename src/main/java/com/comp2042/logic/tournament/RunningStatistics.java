@@ -0,0 +1,34 @@
+package com.comp2042.logic.tournament;
+
+//Welford's running mean and variance, with a normal approximation for the 95% confidence interval of the mean
+public class RunningStatistics {
+
+    private static final double Z_95 = 1.959964;
+
+    private long count;
+    private double mean;
+    private double squaredDeviations;
+
+    public synchronized void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMean() {
+        return mean;
+    }
+
+    public synchronized double getStandardDeviation() {
+        return count < 2 ? 0 : Math.sqrt(squaredDeviations / (count - 1));
+    }
+
+    public synchronized double getConfidenceHalfWidth() {
+        return count < 2 ? 0 : Z_95 * getStandardDeviation() / Math.sqrt(count);
+    }
+}
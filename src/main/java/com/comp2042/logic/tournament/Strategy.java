@@ -0,0 +1,68 @@
+package com.comp2042.logic.tournament;
+
+import com.comp2042.logic.ai.ExpectimaxSearch;
+import com.comp2042.logic.ai.HeuristicWeights;
+import com.comp2042.logic.ai.MovePlanner;
+import com.comp2042.logic.ai.PlacementSearch;
+import com.comp2042.logic.ai.PlannerType;
+import com.comp2042.logic.ai.TranspositionTable;
+
+import java.util.Locale;
+
+public final class Strategy {
+
+    //Offline games are limited by depth rather than by the clock so results only depend on the seed
+    private static final long UNLIMITED_BUDGET = Long.MAX_VALUE / 4;
+    private static final int TABLE_ENTRIES = 1 << 16;
+
+    private final String name;
+    private final PlannerType plannerType;
+    private final int depth;
+    private final HeuristicWeights weights;
+
+    public Strategy(String name, PlannerType plannerType, int depth, HeuristicWeights weights) {
+        this.name = name;
+        this.plannerType = plannerType;
+        this.depth = depth;
+        this.weights = weights;
+    }
+
+    //Parses name:TYPE[:depth[:height,lines,holes,bumpiness]]
+    public static Strategy parse(String spec) {
+        String[] parts = spec.split(":");
+        if (parts.length < 2 || parts.length > 4) {
+            throw new IllegalArgumentException("Expected name:TYPE[:depth[:weights]] but got " + spec);
+        }
+        PlannerType type = PlannerType.valueOf(parts[1].toUpperCase(Locale.ROOT));
+        int depth = parts.length > 2 ? Integer.parseInt(parts[2]) : 2;
+        HeuristicWeights weights = parts.length > 3 ? HeuristicWeights.parse(parts[3]) : HeuristicWeights.DEFAULT;
+        return new Strategy(parts[0], type, depth, weights);
+    }
+
+    //A planner that searches on the calling thread, for games that are already played in parallel
+    public MovePlanner createPlanner() {
+        switch (plannerType) {
+            case GREEDY:
+                return new PlacementSearch(weights, null, UNLIMITED_BUDGET, Integer.MAX_VALUE);
+            case EXPECTIMAX:
+            default:
+                return new ExpectimaxSearch(weights, null, UNLIMITED_BUDGET, depth, new TranspositionTable(TABLE_ENTRIES));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PlannerType getPlannerType() {
+        return plannerType;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public HeuristicWeights getWeights() {
+        return weights;
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.logic.tournament;
+
+import com.comp2042.BoardType;
+import com.comp2042.GameEngine;
+import com.comp2042.logic.ai.Simulation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+//Plays every strategy on every seed across a fork-join pool. Games are split recursively so idle workers steal
+//whole ranges, strategies are interleaved so slow ones do not bunch up at the end, and each worker thread keeps
+//one Simulation per strategy that it resets between games. The planners search on the thread playing the game,
+//so a worker never steals another game while it is in the middle of one.
+public class Tournament {
+
+    private final List<Strategy> strategies;
+    private final long firstSeed;
+    private final int seeds;
+    private final long maxPieces;
+    private final BoardType boardType;
+    private final int width;
+    private final int height;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Simulation[]> simulations;
+
+    public Tournament(List<Strategy> strategies, long firstSeed, int seeds, long maxPieces, BoardType boardType,
+                      int width, int height, ForkJoinPool pool) {
+        this.strategies = List.copyOf(strategies);
+        this.firstSeed = firstSeed;
+        this.seeds = seeds;
+        this.maxPieces = maxPieces;
+        this.boardType = boardType;
+        this.width = width;
+        this.height = height;
+        this.pool = pool;
+        simulations = ThreadLocal.withInitial(() -> new Simulation[this.strategies.size()]);
+    }
+
+    //Blocks until every game is played, results reach the sink from worker threads as soon as each game ends
+    public void run(Consumer<GameResult> sink) {
+        pool.invoke(new GameRange(sink, 0, strategies.size() * seeds));
+    }
+
+    private GameResult play(int game) {
+        int strategyIndex = game % strategies.size();
+        Strategy strategy = strategies.get(strategyIndex);
+        Simulation[] local = simulations.get();
+        if (local[strategyIndex] == null) {
+            local[strategyIndex] = new Simulation(boardType, width, height, strategy.createPlanner());
+        }
+        long seed = firstSeed + game / strategies.size();
+        long start = System.nanoTime();
+        GameEngine engine = local[strategyIndex].play(seed, maxPieces);
+        long nanos = System.nanoTime() - start;
+        return new GameResult(strategy.getName(), seed, engine.getLinesCleared(), engine.getScore(),
+                engine.getPieceCount(), nanos, engine.isGameOver());
+    }
+
+    private final class GameRange extends RecursiveAction {
+
+        private final Consumer<GameResult> sink;
+        private final int from;
+        private final int to;
+
+        private GameRange(Consumer<GameResult> sink, int from, int to) {
+            this.sink = sink;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    sink.accept(play(from));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GameRange(sink, from, middle), new GameRange(sink, middle, to));
+        }
+    }
+}
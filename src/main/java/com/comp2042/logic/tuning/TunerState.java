@@ -0,0 +1,123 @@
+package com.comp2042.logic.tuning;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Properties;
+
+//Search distribution and last evaluated population, written as a properties file after every generation
+public final class TunerState {
+
+    private int generation;
+    private final double[] mean;
+    private final double[] sigma;
+    private double[][] population = new double[0][];
+    private double[] fitness = new double[0];
+    private double[] bestWeights;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+
+    public TunerState(double[] mean, double[] sigma) {
+        this.mean = mean.clone();
+        this.sigma = sigma.clone();
+        this.bestWeights = mean.clone();
+    }
+
+    public static TunerState load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        TunerState state = new TunerState(parse(properties.getProperty("mean")), parse(properties.getProperty("sigma")));
+        state.generation = Integer.parseInt(properties.getProperty("generation"));
+        state.bestWeights = parse(properties.getProperty("best.weights"));
+        state.bestFitness = Double.parseDouble(properties.getProperty("best.fitness"));
+        int size = Integer.parseInt(properties.getProperty("population.size", "0"));
+        state.population = new double[size][];
+        state.fitness = new double[size];
+        for (int i = 0; i < size; i++) {
+            state.population[i] = parse(properties.getProperty("population." + i));
+            state.fitness[i] = Double.parseDouble(properties.getProperty("fitness." + i));
+        }
+        return state;
+    }
+
+    //Writes to a sibling temp file first so an interrupted run never leaves a half written checkpoint
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("generation", Integer.toString(generation));
+        properties.setProperty("mean", format(mean));
+        properties.setProperty("sigma", format(sigma));
+        properties.setProperty("best.weights", format(bestWeights));
+        properties.setProperty("best.fitness", Double.toString(bestFitness));
+        properties.setProperty("population.size", Integer.toString(population.length));
+        for (int i = 0; i < population.length; i++) {
+            properties.setProperty("population." + i, format(population[i]));
+            properties.setProperty("fitness." + i, Double.toString(fitness[i]));
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "heuristic weight tuner checkpoint");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String format(double[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(values[i]);
+        }
+        return builder.toString();
+    }
+
+    private static double[] parse(String value) {
+        return Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+
+    void advance(double[][] population, double[] fitness) {
+        this.population = population;
+        this.fitness = fitness;
+        for (int i = 0; i < fitness.length; i++) {
+            if (fitness[i] > bestFitness) {
+                bestFitness = fitness[i];
+                bestWeights = population[i].clone();
+            }
+        }
+        generation++;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public double[] getMean() {
+        return mean;
+    }
+
+    public double[] getSigma() {
+        return sigma;
+    }
+
+    public double[][] getPopulation() {
+        return population;
+    }
+
+    public double[] getFitness() {
+        return fitness;
+    }
+
+    public double[] getBestWeights() {
+        return bestWeights;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+}
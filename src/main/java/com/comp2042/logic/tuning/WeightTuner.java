@@ -0,0 +1,129 @@
+package com.comp2042.logic.tuning;
+
+import com.comp2042.BoardType;
+import com.comp2042.logic.ai.HeuristicWeights;
+import com.comp2042.logic.ai.Simulation;
+import com.comp2042.logic.ai.ZobristKeys;
+import com.comp2042.logic.tournament.Strategy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+//Cross-entropy method over heuristic weights: sample a population around the current mean, play every candidate
+//on the same seeded games, and refit mean and sigma to the elite. Samples and game seeds are derived from the base
+//seed and generation number only, so a generation replays identically after a resume. Each worker keeps one
+//Simulation whose planner searches on that worker, so a worker never steals another game while it plays one.
+public class WeightTuner {
+
+    private final Strategy strategy;
+    private final int populationSize;
+    private final int eliteCount;
+    private final int gamesPerCandidate;
+    private final long maxPieces;
+    private final long baseSeed;
+    private final double noise;
+    private final BoardType boardType;
+    private final int width;
+    private final int height;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Simulation> simulations;
+
+    public WeightTuner(Strategy strategy, int populationSize, int eliteCount, int gamesPerCandidate, long maxPieces,
+                       long baseSeed, double noise, BoardType boardType, int width, int height, ForkJoinPool pool) {
+        if (eliteCount < 1 || eliteCount > populationSize) {
+            throw new IllegalArgumentException("Elite count must be between 1 and the population size");
+        }
+        this.strategy = strategy;
+        this.populationSize = populationSize;
+        this.eliteCount = eliteCount;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPieces = maxPieces;
+        this.baseSeed = baseSeed;
+        this.noise = noise;
+        this.boardType = boardType;
+        this.width = width;
+        this.height = height;
+        this.pool = pool;
+        simulations = ThreadLocal.withInitial(() -> new Simulation(boardType, width, height, strategy.createPlanner()));
+    }
+
+    public void runGeneration(TunerState state) {
+        long generationSeed = ZobristKeys.mix(baseSeed + state.getGeneration());
+        SplittableRandom random = new SplittableRandom(generationSeed);
+        double[] mean = state.getMean();
+        double[] sigma = state.getSigma();
+        double[][] population = new double[populationSize][mean.length];
+        for (double[] candidate : population) {
+            for (int d = 0; d < mean.length; d++) {
+                candidate[d] = mean[d] + sigma[d] * random.nextGaussian();
+            }
+        }
+        long[] seeds = new long[gamesPerCandidate];
+        for (int k = 0; k < seeds.length; k++) {
+            seeds[k] = ZobristKeys.mix(generationSeed + k + 1);
+        }
+
+        long[][] lines = new long[populationSize][gamesPerCandidate];
+        pool.invoke(new Games(population, seeds, lines, 0, populationSize * gamesPerCandidate));
+        double[] fitness = new double[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            fitness[i] = Arrays.stream(lines[i]).average().orElse(0);
+        }
+
+        int[] elite = IntStream.range(0, populationSize).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> fitness[i]).reversed())
+                .limit(eliteCount).mapToInt(Integer::intValue).toArray();
+        double extraNoise = noise / (1 + state.getGeneration());
+        for (int d = 0; d < mean.length; d++) {
+            double sum = 0;
+            for (int i : elite) {
+                sum += population[i][d];
+            }
+            double eliteMean = sum / elite.length;
+            double squares = 0;
+            for (int i : elite) {
+                squares += (population[i][d] - eliteMean) * (population[i][d] - eliteMean);
+            }
+            mean[d] = eliteMean;
+            sigma[d] = Math.sqrt(squares / elite.length + extraNoise);
+        }
+        state.advance(population, fitness);
+    }
+
+    private final class Games extends RecursiveAction {
+
+        private final double[][] population;
+        private final long[] seeds;
+        private final long[][] lines;
+        private final int from;
+        private final int to;
+
+        private Games(double[][] population, long[] seeds, long[][] lines, int from, int to) {
+            this.population = population;
+            this.seeds = seeds;
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Games(population, seeds, lines, from, middle), new Games(population, seeds, lines, middle, to));
+                return;
+            }
+            if (to > from) {
+                int candidate = from / gamesPerCandidate;
+                int game = from % gamesPerCandidate;
+                Simulation simulation = simulations.get();
+                simulation.setWeights(HeuristicWeights.fromArray(population[candidate]));
+                lines[candidate][game] = simulation.play(seeds[game], maxPieces).getLinesCleared();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.logic.versus;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//Bounded inbox of attacks for one board, in the style of Vyukov's bounded queue: any number of opponents offer
+//concurrently with a CAS on the tail, the owning board drains alone, and every slot carries a sequence number
+//that tells each side when it may touch the slot. Neither side ever blocks and nothing is allocated per attack.
+public final class AttackQueue {
+
+    public interface Consumer {
+        void accept(int lines, int holeColumn, long time);
+    }
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final int[] lines;
+    private final int[] holeColumns;
+    private final long[] times;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    public AttackQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        lines = new int[capacity];
+        holeColumns = new int[capacity];
+        times = new long[capacity];
+    }
+
+    //Any thread, returns false when the queue is full so the sender can keep the attack and retry later
+    public boolean offer(int attackLines, int holeColumn, long time) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    lines[index] = attackLines;
+                    holeColumns[index] = holeColumn;
+                    times[index] = time;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    //Owner only, hands every published attack to consumer in order and returns how many there were
+    public int drain(Consumer consumer) {
+        int drained = 0;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                return drained;
+            }
+            consumer.accept(lines[index], holeColumns[index], times[index]);
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            drained++;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.logic.versus;
+
+import com.comp2042.Board;
+
+//Garbage a board has received but not yet taken, oldest first, in fixed arrays. Clearing lines cancels from the
+//oldest entry, and an entry is only inserted once its delay has passed, which gives the receiver time to cancel.
+public final class GarbageQueue {
+
+    private final int mask;
+    private final int[] lines;
+    private final int[] holeColumns;
+    private final long[] readyTimes;
+    private int head;
+    private int size;
+    private int pendingLines;
+
+    public GarbageQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        lines = new int[capacity];
+        holeColumns = new int[capacity];
+        readyTimes = new long[capacity];
+    }
+
+    //A full queue folds the attack into the newest entry rather than dropping it
+    public void add(int attackLines, int holeColumn, long readyTime) {
+        if (attackLines <= 0) {
+            return;
+        }
+        pendingLines += attackLines;
+        if (size == lines.length) {
+            lines[(head + size - 1) & mask] += attackLines;
+            return;
+        }
+        int index = (head + size) & mask;
+        lines[index] = attackLines;
+        holeColumns[index] = holeColumn;
+        readyTimes[index] = readyTime;
+        size++;
+    }
+
+    //Cancels up to attackLines pending lines and returns what is left of the attack to send on
+    public int cancel(int attackLines) {
+        while (attackLines > 0 && size > 0) {
+            int cancelled = Math.min(attackLines, lines[head]);
+            lines[head] -= cancelled;
+            pendingLines -= cancelled;
+            attackLines -= cancelled;
+            if (lines[head] == 0) {
+                removeHead();
+            }
+        }
+        return attackLines;
+    }
+
+    //Inserts the entries whose delay has passed, at most maxLines rows, and returns true when the board topped out
+    public boolean insertReady(Board board, long now, int maxLines) {
+        boolean toppedOut = false;
+        while (size > 0 && maxLines > 0 && readyTimes[head] <= now) {
+            int inserted = Math.min(maxLines, lines[head]);
+            toppedOut |= board.addGarbage(inserted, holeColumns[head]);
+            lines[head] -= inserted;
+            pendingLines -= inserted;
+            maxLines -= inserted;
+            if (lines[head] == 0) {
+                removeHead();
+            }
+        }
+        return toppedOut;
+    }
+
+    private void removeHead() {
+        head = (head + 1) & mask;
+        size--;
+    }
+
+    public int getPendingLines() {
+        return pendingLines;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        pendingLines = 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.comp2042.logic.versus;
+
+public final class MatchResult {
+
+    private final long seed;
+    private final int winner;
+    private final long steps;
+    private final long[] pieces;
+    private final long[] linesSent;
+
+    //winner is the index of the last board standing, or -1 for a draw
+    public MatchResult(long seed, int winner, long steps, long[] pieces, long[] linesSent) {
+        this.seed = seed;
+        this.winner = winner;
+        this.steps = steps;
+        this.pieces = pieces;
+        this.linesSent = linesSent;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    public long getPieces(int player) {
+        return pieces[player];
+    }
+
+    public long getLinesSent(int player) {
+        return linesSent[player];
+    }
+}
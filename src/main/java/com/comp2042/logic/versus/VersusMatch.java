@@ -0,0 +1,104 @@
+package com.comp2042.logic.versus;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.logic.ai.AiPlayer;
+import com.comp2042.logic.ai.MovePlanner;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.util.List;
+
+//Bot match between two or more boards on one thread, reset in place between seeds like Simulation. Every board
+//gets the same brick sequence, boards take one AI move each per step, the step count is the clock for garbage
+//delay, and each board attacks the next board still standing.
+public class VersusMatch {
+
+    private final SeededBrickGenerator[] generators;
+    private final AiPlayer[] aiPlayers;
+    private final VersusPlayer[] players;
+
+    public VersusMatch(BoardType boardType, int width, int height, List<MovePlanner> planners, long delay) {
+        if (planners.size() < 2) {
+            throw new IllegalArgumentException("A match needs at least two boards");
+        }
+        int count = planners.size();
+        generators = new SeededBrickGenerator[count];
+        aiPlayers = new AiPlayer[count];
+        players = new VersusPlayer[count];
+        for (int i = 0; i < count; i++) {
+            SeededBrickGenerator generator = new SeededBrickGenerator(0);
+            GameEngine engine = new GameEngine(boardType.create(width, height, generator));
+            generators[i] = generator;
+            aiPlayers[i] = new AiPlayer(engine.getBoard(), planners.get(i), generator::getPreview);
+            players[i] = new VersusPlayer(engine, delay);
+        }
+    }
+
+    //Plays until one board is left or a board has spawned maxPieces bricks, which counts as a draw. The first
+    //board to move rotates with the seed so no seat keeps the head start.
+    public MatchResult play(long seed, long maxPieces) {
+        int count = players.length;
+        for (int i = 0; i < count; i++) {
+            generators[i].reset(seed);
+            players[i].getEngine().newGame();
+            players[i].reset(seed * count + i);
+            aiPlayers[i].invalidatePlan();
+        }
+        retarget();
+        int first = (int) Long.remainderUnsigned(seed, count);
+        int alive = count;
+        long steps = 0;
+        boolean capped = false;
+        while (alive > 1 && !capped) {
+            steps++;
+            for (int k = 0; k < count; k++) {
+                int i = (first + k) % count;
+                GameEngine engine = players[i].getEngine();
+                if (engine.isGameOver()) {
+                    continue;
+                }
+                players[i].setTime(steps);
+                EventType type = aiPlayers[i].nextMove();
+                boolean moved = engine.step(type);
+                if (engine.getLastClearRow() != null || (!moved && type != EventType.DOWN)) {
+                    aiPlayers[i].invalidatePlan();
+                }
+                if (engine.isGameOver()) {
+                    alive--;
+                    retarget();
+                }
+                capped |= engine.getPieceCount() >= maxPieces;
+            }
+        }
+        int winner = -1;
+        long[] pieces = new long[count];
+        long[] linesSent = new long[count];
+        for (int i = 0; i < count; i++) {
+            if (alive == 1 && !players[i].getEngine().isGameOver()) {
+                winner = i;
+            }
+            pieces[i] = players[i].getEngine().getPieceCount();
+            linesSent[i] = players[i].getLinesSent();
+        }
+        return new MatchResult(seed, winner, steps, pieces, linesSent);
+    }
+
+    private void retarget() {
+        int count = players.length;
+        for (int i = 0; i < count; i++) {
+            VersusPlayer target = null;
+            for (int k = 1; k < count && target == null; k++) {
+                VersusPlayer candidate = players[(i + k) % count];
+                if (!candidate.getEngine().isGameOver()) {
+                    target = candidate;
+                }
+            }
+            players[i].setTarget(target);
+        }
+    }
+
+    public int getPlayerCount() {
+        return players.length;
+    }
+}
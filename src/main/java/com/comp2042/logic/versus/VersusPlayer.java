@@ -0,0 +1,105 @@
+package com.comp2042.logic.versus;
+
+import com.comp2042.ClearRow;
+import com.comp2042.GameEngine;
+import com.comp2042.LockListener;
+import com.comp2042.logic.ai.ZobristKeys;
+
+//Versus rules for one board, run from its engine on every lock. Cleared lines become an attack that first cancels
+//pending garbage and then goes to the target's inbox; a lock without a clear takes in garbage whose delay has
+//passed. Only the target's AttackQueue is shared, so boards on different threads never wait on each other.
+public class VersusPlayer implements LockListener {
+
+    //Garbage sent for 0 to 4 lines cleared at once
+    private static final int[] ATTACK = {0, 0, 1, 2, 4};
+    private static final int MAX_GARBAGE_PER_LOCK = 8;
+    private static final int INBOX_CAPACITY = 64;
+    private static final int PENDING_CAPACITY = 64;
+
+    private final GameEngine engine;
+    private final AttackQueue inbox = new AttackQueue(INBOX_CAPACITY);
+    private final GarbageQueue pending = new GarbageQueue(PENDING_CAPACITY);
+    private final AttackQueue.Consumer receiver = this::receive;
+    private final int columns;
+    private final long delay;
+    private AttackQueue target;
+    private long holeSeed;
+    private long attacks;
+    private long time;
+    private int unsent;
+    private long linesSent;
+    private long linesReceived;
+
+    //delay is in the same unit as the times passed to setTime
+    public VersusPlayer(GameEngine engine, long delay) {
+        this.engine = engine;
+        this.delay = delay;
+        columns = engine.getBoard().getBoardMatrix()[0].length;
+        engine.setLockListener(this);
+    }
+
+    public void reset(long seed) {
+        inbox.drain((lines, holeColumn, sentTime) -> { });
+        pending.clear();
+        holeSeed = seed;
+        attacks = 0;
+        time = 0;
+        unsent = 0;
+        linesSent = 0;
+        linesReceived = 0;
+    }
+
+    @Override
+    public boolean afterLock(ClearRow clearRow) {
+        inbox.drain(receiver);
+        int cleared = Math.min(clearRow.getLinesRemoved(), ATTACK.length - 1);
+        if (cleared > 0) {
+            unsent += pending.cancel(ATTACK[cleared]);
+            flush();
+            return false;
+        }
+        flush();
+        return pending.insertReady(engine.getBoard(), time, MAX_GARBAGE_PER_LOCK);
+    }
+
+    private void receive(int lines, int holeColumn, long sentTime) {
+        pending.add(lines, holeColumn, sentTime + delay);
+        linesReceived += lines;
+    }
+
+    //An attack that does not fit in a full inbox stays here and goes out with the next one
+    private void flush() {
+        if (unsent > 0 && target != null && target.offer(unsent, nextHoleColumn(), time)) {
+            linesSent += unsent;
+            unsent = 0;
+        }
+    }
+
+    private int nextHoleColumn() {
+        return (int) Long.remainderUnsigned(ZobristKeys.mix(holeSeed + attacks++), columns);
+    }
+
+    public void setTarget(VersusPlayer target) {
+        this.target = target == null ? null : target.inbox;
+    }
+
+    public void setTime(long time) {
+        this.time = time;
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public int getPendingLines() {
+        return pending.getPendingLines();
+    }
+
+    public long getLinesSent() {
+        return linesSent;
+    }
+
+    public long getLinesReceived() {
+        return linesReceived;
+    }
+}
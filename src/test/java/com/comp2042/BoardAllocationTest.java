@@ -0,0 +1,57 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoardAllocationTest {
+
+    //Long enough for the JIT to finish tiering up, which can cost a few bytes on the calling thread
+    private static final int WARM_UP_MOVES = 500_000;
+    private static final int MEASURED_MOVES = 100_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void movesAndRotationsDoNotAllocate() {
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(25, 10, new SeededBrickGenerator(42), RotationSystem.SRS);
+            board.newGame();
+            moves(board, WARM_UP_MOVES);
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            moves(board, MEASURED_MOVES);
+            long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+            assertEquals(0, allocated, type + " allocated " + allocated + " bytes over " + MEASURED_MOVES + " moves");
+        }
+    }
+
+    //Sideways moves, both rotations and steps down. The board never merges a brick on its own, so once the brick
+    //rests on the floor the steps down just fail and the same brick keeps moving
+    private static void moves(Board board, int count) {
+        for (int i = 0; i < count; i++) {
+            switch (i & 7) {
+                case 0:
+                case 1:
+                    board.moveBrickLeft();
+                    break;
+                case 2:
+                case 3:
+                    board.moveBrickRight();
+                    break;
+                case 4:
+                    board.rotateLeftBrick();
+                    break;
+                case 5:
+                    board.rotateRightBrick();
+                    break;
+                default:
+                    board.moveBrickDown();
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardParityTest {
+
+    private static final int STEPS = 100_000;
+    private static final EventType[] MOVES = EventType.values();
+
+    //Every board type plays the same seeded games as SIMPLE from the same random inputs, with garbage pushed in
+    //after some locks the way versus matches do
+    @Test
+    void everyBoardTypePlaysTheSameGames() {
+        for (RotationSystem rotationSystem : RotationSystem.values()) {
+            BoardType[] types = BoardType.values();
+            GameEngine[] engines = new GameEngine[types.length];
+            int[] garbage = new int[types.length];
+            for (int i = 0; i < types.length; i++) {
+                engines[i] = new GameEngine(types[i].create(25, 10, new SeededBrickGenerator(7, true, 1),
+                        rotationSystem));
+                addGarbageAfterLocks(engines[i], garbage, i);
+            }
+            GameEngine reference = engines[0];
+            Random random = new Random(rotationSystem.ordinal());
+            long lines = 0;
+            for (int step = 0; step < STEPS; step++) {
+                if (reference.isGameOver()) {
+                    lines += reference.getLinesCleared();
+                    for (GameEngine engine : engines) {
+                        engine.newGame();
+                    }
+                }
+                int action = random.nextInt(MOVES.length + 2);
+                boolean changed = act(reference, action);
+                for (int i = 1; i < engines.length; i++) {
+                    String where = types[i] + " under " + rotationSystem + " at step " + step;
+                    assertEquals(changed, act(engines[i], action), where);
+                    assertEquals(garbage[0], garbage[i], where);
+                    assertSameGame(reference, engines[i], where);
+                }
+            }
+            assertTrue(lines > 0, "No lines were cleared under " + rotationSystem);
+            assertTrue(garbage[0] > 0, "No garbage was added under " + rotationSystem);
+        }
+    }
+
+    //Actions past the moves are gravity ticks, so the brick also falls and locks on its own
+    private static boolean act(GameEngine engine, int action) {
+        return action < MOVES.length ? engine.step(MOVES[action]) : engine.tick();
+    }
+
+    private static void addGarbageAfterLocks(GameEngine engine, int[] garbage, int index) {
+        engine.setLockListener(clearRow -> {
+            long pieces = engine.getPieceCount();
+            if (clearRow.getLinesRemoved() != 0 || pieces % 5 != 0) {
+                return false;
+            }
+            garbage[index]++;
+            return engine.getBoard().addGarbage(1 + (int) (pieces % 2), (int) (pieces % 10));
+        });
+    }
+
+    private static void assertSameGame(GameEngine expected, GameEngine actual, String where) {
+        ViewData expectedView = expected.getBoard().getViewData();
+        ViewData actualView = actual.getBoard().getViewData();
+        assertSame(expectedView.getBrickData(), actualView.getBrickData(), where);
+        assertSame(expectedView.getNextBrickData(), actualView.getNextBrickData(), where);
+        assertEquals(expectedView.getxPosition(), actualView.getxPosition(), where);
+        assertEquals(expectedView.getyPosition(), actualView.getyPosition(), where);
+        assertEquals(expectedView.getGhostYPosition(), actualView.getGhostYPosition(), where);
+        assertArrayEquals(expected.getBoard().getBoardMatrix(), actual.getBoard().getBoardMatrix(), where);
+        assertEquals(expected.getScore(), actual.getScore(), where);
+        assertEquals(expected.getLinesCleared(), actual.getLinesCleared(), where);
+        assertEquals(expected.getPieceCount(), actual.getPieceCount(), where);
+        assertEquals(expected.isGameOver(), actual.isGameOver(), where);
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class BoardStateTest {
+
+    @Test
+    void writtenRowsAreReadBackOnEveryBoard() {
+        int[][] matrix = new int[25][10];
+        Random random = new Random(3);
+        for (int i = 15; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                matrix[i][j] = random.nextInt(Board.GARBAGE_COLOR + 1);
+            }
+        }
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(25, 10, new SeededBrickGenerator(5));
+            board.createNewBrick();
+            ByteBuffer state = ByteBuffer.allocate(board.getStateSize());
+            board.writeState(state);
+            BoardState.writeRows(board, state, matrix);
+            board.checkState(state, 0);
+            board.readState(state.flip());
+            assertArrayEquals(matrix, board.getBoardMatrix(), type.name());
+        }
+    }
+}
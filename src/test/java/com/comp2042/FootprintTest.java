@@ -0,0 +1,84 @@
+package com.comp2042;
+
+import com.comp2042.logic.ai.AiPlayer;
+import com.comp2042.logic.ai.MovePlanner;
+import com.comp2042.logic.tournament.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FootprintTest {
+
+    //The state is 269 bytes on a 25x10 board, 288 bytes of heap once parked in a byte array. FootprintMain measures
+    //the heap cost of live games, which depends on the JVM and its GC, so only the state size is held to a budget here.
+    private static final int STATE_BUDGET = 280;
+
+    private static final int MAX_MOVES = 10_000;
+
+    @Test
+    void hibernatedStateStaysUnderBudget() {
+        for (int seed = 0; seed < 10; seed++) {
+            int stateSize = CompactGame.hibernate(FootprintMain.createGame(seed)).length;
+            assertTrue(stateSize <= STATE_BUDGET, "Hibernated state takes " + stateSize + " bytes");
+        }
+    }
+
+    //The greedy AI plays the original game well enough to clear lines both before and after the hibernation, and
+    //every move it picks is applied to both games
+    @Test
+    void rehydratedGameContinuesTheSameGame() {
+        //Searches without a clock, so the AI plays the same game on every run
+        MovePlanner planner = Strategy.parse("greedy:GREEDY").createPlanner();
+        for (int seed = 0; seed < 10; seed++) {
+            GameEngine original = CompactGame.create(25, 10, seed, RotationSystem.CLASSIC, false);
+            AiPlayer ai = new AiPlayer(original.getBoard(), planner, Collections::emptyList);
+            for (int i = 0; i < MAX_MOVES && !original.isGameOver() && original.getPieceCount() < 20; i++) {
+                play(ai, original, null);
+            }
+            GameEngine rehydrated = CompactGame.rehydrate(CompactGame.hibernate(original));
+            long linesBefore = original.getLinesCleared();
+            for (int i = 0; i < MAX_MOVES && !original.isGameOver() && original.getPieceCount() < 200; i++) {
+                assertSameGame(original, rehydrated);
+                play(ai, original, rehydrated);
+                if (i % 4 == 0) {
+                    assertEquals(original.tick(), rehydrated.tick());
+                }
+            }
+            assertSameGame(original, rehydrated);
+            assertTrue(original.getPieceCount() > 30, "Seed " + seed + " ended right after the hibernation");
+            assertTrue(original.getLinesCleared() > linesBefore, "Seed " + seed + " cleared no lines after rehydrating");
+        }
+    }
+
+    //Same move loop as Simulation
+    private static void play(AiPlayer ai, GameEngine engine, GameEngine copy) {
+        EventType move = ai.nextMove();
+        boolean moved = engine.step(move);
+        if (copy != null) {
+            assertEquals(moved, copy.step(move));
+        }
+        if (engine.getLastClearRow() != null || (!moved && move != EventType.DOWN)) {
+            ai.invalidatePlan();
+        }
+    }
+
+    private static void assertSameGame(GameEngine expected, GameEngine actual) {
+        ViewData expectedView = expected.getBoard().getViewData();
+        ViewData actualView = actual.getBoard().getViewData();
+        assertSame(expectedView.getBrickData(), actualView.getBrickData());
+        assertSame(expectedView.getNextBrickData(), actualView.getNextBrickData());
+        assertEquals(expectedView.getxPosition(), actualView.getxPosition());
+        assertEquals(expectedView.getyPosition(), actualView.getyPosition());
+        assertArrayEquals(expected.getBoard().getBoardMatrix(), actual.getBoard().getBoardMatrix());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getPieceCount(), actual.getPieceCount());
+        assertEquals(expected.getLinesCleared(), actual.getLinesCleared());
+        assertEquals(expected.getTickCount(), actual.getTickCount());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+    }
+}
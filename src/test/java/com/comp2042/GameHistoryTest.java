@@ -0,0 +1,137 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameHistoryTest {
+
+    private static final int CAPACITY = 8;
+    private static final EventType[] MOVES = EventType.values();
+
+    @Test
+    void rejectsCapacityBelowTwo() {
+        GameEngine engine = game(BoardType.SIMPLE, 1);
+        assertThrows(IllegalArgumentException.class, () -> new GameHistory(engine, 1));
+    }
+
+    @Test
+    void stepBackNeedsAnEarlierSpawn() {
+        GameEngine engine = game(BoardType.SIMPLE, 1);
+        GameHistory history = new GameHistory(engine, CAPACITY);
+        assertFalse(history.stepBack(engine));
+        history.record(engine);
+        byte[] before = state(engine);
+        assertFalse(history.stepBack(engine));
+        assertArrayEquals(before, state(engine));
+        assertEquals(1, history.size());
+    }
+
+    //Only the newest CAPACITY spawns are kept, so after CAPACITY - 1 steps back the oldest kept spawn is reached
+    @Test
+    void keepsOnlyTheNewestSpawns() {
+        GameEngine engine = game(BoardType.COMPACT, 2);
+        GameHistory history = new GameHistory(engine, CAPACITY);
+        Deque<byte[]> spawns = new ArrayDeque<>();
+        history.record(engine);
+        spawns.push(state(engine));
+        while (spawns.size() < 2 * CAPACITY) {
+            long pieces = engine.getPieceCount();
+            //Spreads the drops over the board so the game lasts
+            int shift = (int) (pieces * 3 % 9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                engine.step(shift < 0 ? EventType.LEFT : EventType.RIGHT);
+            }
+            engine.step(EventType.HARD_DROP);
+            assertTrue(engine.getPieceCount() > pieces && !engine.isGameOver());
+            history.record(engine);
+            spawns.push(state(engine));
+            assertEquals(Math.min(spawns.size(), CAPACITY), history.size());
+        }
+        spawns.pop();
+        for (int i = 1; i < CAPACITY; i++) {
+            assertTrue(history.stepBack(engine));
+            assertArrayEquals(spawns.pop(), state(engine), "step back " + i);
+        }
+        assertFalse(history.stepBack(engine));
+        assertEquals(1, history.size());
+    }
+
+    //Random play with garbage and random steps back on every board type. Each step back must restore the exact
+    //state at the previous kept spawn, generator included, and the board version must match the restored cells.
+    @Test
+    void stepBackRestoresTheExactPreviousSpawn() {
+        for (BoardType type : BoardType.values()) {
+            GameEngine engine = game(type, 11);
+            engine.setLockListener(clearRow -> clearRow.getLinesRemoved() == 0 && engine.getPieceCount() % 6 == 0
+                    && engine.getBoard().addGarbage(1 + (int) (engine.getPieceCount() % 3),
+                    (int) (engine.getPieceCount() % 10)));
+            GameHistory history = new GameHistory(engine, CAPACITY);
+            Deque<byte[]> spawns = new ArrayDeque<>();
+            history.record(engine);
+            spawns.push(state(engine));
+            long recorded = engine.getPieceCount();
+            Random random = new Random(type.ordinal());
+            int undone = 0;
+            for (int step = 0; step < 100_000; step++) {
+                if (engine.isGameOver() && random.nextBoolean()) {
+                    engine.newGame();
+                    history.clear();
+                    spawns.clear();
+                    history.record(engine);
+                    spawns.push(state(engine));
+                    recorded = engine.getPieceCount();
+                }
+                int action = random.nextInt(MOVES.length + 3);
+                if (action > MOVES.length) {
+                    boolean expected = spawns.size() > 1;
+                    assertEquals(expected, history.stepBack(engine), type + " at step " + step);
+                    if (expected) {
+                        spawns.pop();
+                        assertArrayEquals(spawns.peek(), state(engine), type + " at step " + step);
+                        assertArrayEquals(engine.getBoard().getBoardMatrix(), engine.getBoardVersion().getRows());
+                        undone++;
+                    }
+                    recorded = engine.getPieceCount();
+                    continue;
+                }
+                if (action == MOVES.length) {
+                    engine.tick();
+                } else {
+                    engine.step(MOVES[action]);
+                }
+                if (engine.getPieceCount() != recorded) {
+                    history.record(engine);
+                    spawns.push(state(engine));
+                    if (spawns.size() > CAPACITY) {
+                        spawns.removeLast();
+                    }
+                    recorded = engine.getPieceCount();
+                }
+                assertEquals(spawns.size(), history.size());
+            }
+            assertTrue(undone > 1000, type + " only stepped back " + undone + " times");
+        }
+    }
+
+    private static GameEngine game(BoardType type, long seed) {
+        return new GameEngine(type.create(25, 10, new SeededBrickGenerator(seed, true, 5)));
+    }
+
+    private static byte[] state(GameEngine engine) {
+        ByteBuffer buffer = ByteBuffer.allocate(engine.getBoard().getStateSize() + GameEngine.STATE_SIZE);
+        engine.getBoard().writeState(buffer);
+        engine.writeState(buffer);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputRingTest {
+
+    private static final int ENTRIES = 200_000;
+    private static final int STALL_EVERY = 10_000;
+
+    @Test
+    void rejectsCapacityThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new InputRing(0));
+        assertThrows(IllegalArgumentException.class, () -> new InputRing(12));
+    }
+
+    @Test
+    void fullRingDropsInputUntilTheConsumerCatchesUp() {
+        InputRing ring = new InputRing(8);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(ring.offer(i, 100L + i));
+        }
+        //The last slot is kept for offerReserved
+        assertFalse(ring.offer(7, 107));
+        assertTrue(ring.offerReserved(7, 107));
+        assertFalse(ring.offerReserved(8, 108));
+
+        List<Integer> codes = new ArrayList<>();
+        List<Long> times = new ArrayList<>();
+        assertEquals(8, ring.drain((code, time) -> {
+            codes.add(code);
+            times.add(time);
+        }));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), codes);
+        assertEquals(List.of(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L), times);
+
+        //The dropped entry is gone, and the slots freed by the drain take the next ones
+        assertTrue(ring.offer(9, 109));
+        codes.clear();
+        assertEquals(1, ring.drain((code, time) -> codes.add(code)));
+        assertEquals(List.of(9), codes);
+        assertEquals(0, ring.drain((code, time) -> codes.add(code)));
+    }
+
+    //The producer retries dropped offers, so the consumer must see every code exactly once and in order, each with
+    //the time it was offered with. The consumer stalls now and then so the producer runs into a full ring.
+    @Test
+    void consumerOnAnotherThreadSeesEveryEntryInOrder() throws InterruptedException {
+        InputRing ring = new InputRing(64);
+        int[] dropped = new int[1];
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < ENTRIES; i++) {
+                while (!ring.offer(i, i * 3L)) {
+                    dropped[0]++;
+                    Thread.yield();
+                }
+            }
+        }, "input-ring-producer");
+        producer.start();
+
+        int[] next = new int[1];
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (next[0] < ENTRIES && System.nanoTime() < deadline) {
+            if (next[0] % STALL_EVERY == 0) {
+                Thread.sleep(1);
+            }
+            if (ring.drain((code, time) -> {
+                assertEquals(next[0], code);
+                assertEquals(code * 3L, time);
+                next[0]++;
+            }) == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertEquals(ENTRIES, next[0]);
+        assertEquals(0, ring.drain((code, time) -> next[0]++));
+        assertTrue(dropped[0] > 0);
+    }
+}
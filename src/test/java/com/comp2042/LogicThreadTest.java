@@ -0,0 +1,97 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogicThreadTest {
+
+    //60 Hz, gravity far away, 50 ms DAS and 17 ms ARR so a held key repeats every tick or so
+    private static final TimingConfig TIMING = new TimingConfig(60, 60_000, 50, 17, 50);
+    //Size of LogicThread's input ring
+    private static final int RING_ENTRIES = 1024;
+
+    @Test
+    void commandThatKeepsTheGameKeepsHeldKeys() throws InterruptedException {
+        assertTrue(movesAfterCommand(false) > 0);
+    }
+
+    @Test
+    void commandThatReplacesTheGameReleasesHeldKeys() throws InterruptedException {
+        assertEquals(0, movesAfterCommand(true));
+    }
+
+    //The logic thread stalls on the first move while the ring fills up, so the release of LEFT does not fit and must
+    //still stop the auto repeat once the thread catches up
+    @Test
+    void releaseIntoAFullRingStillReleasesTheKey() throws InterruptedException {
+        AtomicInteger moves = new AtomicInteger();
+        CountDownLatch moved = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        LogicLoop loop = new LogicLoop(TIMING, (type, source) -> {
+            if (type == EventType.LEFT && moves.incrementAndGet() == 1) {
+                moved.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        });
+        LogicThread thread = new LogicThread(loop, () -> { }, command -> false);
+        thread.start();
+        try {
+            thread.keyPressed(EventType.LEFT, System.nanoTime());
+            assertTrue(moved.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 2 * RING_ENTRIES; i++) {
+                thread.keyPressed(EventType.ROTATE, System.nanoTime());
+            }
+            thread.keyReleased(EventType.LEFT, System.nanoTime());
+            resume.countDown();
+            Thread.sleep(300);
+            int afterRelease = moves.get();
+            Thread.sleep(300);
+            assertEquals(afterRelease, moves.get());
+        } finally {
+            resume.countDown();
+            thread.stop();
+        }
+    }
+
+    //Holds LEFT until it has moved, sends a command and counts the moves in the 300 ms after the command ran
+    private static int movesAfterCommand(boolean replacesGame) throws InterruptedException {
+        AtomicInteger moves = new AtomicInteger();
+        AtomicInteger movesAtCommand = new AtomicInteger();
+        CountDownLatch moved = new CountDownLatch(1);
+        CountDownLatch commandRan = new CountDownLatch(1);
+        LogicLoop loop = new LogicLoop(TIMING, (type, source) -> {
+            if (type == EventType.LEFT) {
+                moves.incrementAndGet();
+                moved.countDown();
+            }
+            return true;
+        });
+        LogicThread thread = new LogicThread(loop, () -> { }, command -> {
+            movesAtCommand.set(moves.get());
+            commandRan.countDown();
+            return replacesGame;
+        });
+        thread.start();
+        try {
+            thread.keyPressed(EventType.LEFT, System.nanoTime());
+            assertTrue(moved.await(10, TimeUnit.SECONDS));
+            thread.requestCommand(GameCommand.SAVE_GAME);
+            assertTrue(commandRan.await(10, TimeUnit.SECONDS));
+            Thread.sleep(300);
+            return moves.get() - movesAtCommand.get();
+        } finally {
+            thread.stop();
+        }
+    }
+}
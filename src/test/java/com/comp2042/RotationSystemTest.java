@@ -0,0 +1,41 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Bricks;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RotationSystemTest {
+
+    //Board offsets, so y points down and the SRS tables' y is negated
+    private static final int[] I_STATE_L_TO_0 = {0, 0, 1, 0, -2, 0, 1, 2, -2, -1};
+    private static final int[] I_STATE_0_TO_L = {0, 0, -1, 0, 2, 0, -1, -2, 2, 1};
+
+    //The I brick's second shape is SRS state L, so turning either way from it lands back in state 0
+    @Test
+    void twoShapeBricksKickIntoTheStateOfTheShapeTheyLandIn() {
+        Brick brick = Bricks.get(0);
+        int[][][] kicks = RotationSystem.SRS.createKicks(brick);
+        assertArrayEquals(I_STATE_L_TO_0, kicks[1][RotationSystem.ROTATE_LEFT]);
+        assertArrayEquals(I_STATE_L_TO_0, kicks[1][RotationSystem.ROTATE_RIGHT]);
+        assertArrayEquals(I_STATE_0_TO_L, kicks[0][RotationSystem.ROTATE_LEFT]);
+        assertArrayEquals(I_STATE_0_TO_L, kicks[0][RotationSystem.ROTATE_RIGHT]);
+    }
+
+    //Every kick list starts by trying the rotation in place and has the five SRS tests, or none for O
+    @Test
+    void everyKickListStartsInPlace() {
+        for (Brick brick : Bricks.all()) {
+            int[][][] kicks = RotationSystem.SRS.createKicks(brick);
+            for (int[][] rotation : kicks) {
+                for (int[] offsets : rotation) {
+                    assertEquals(0, offsets[0]);
+                    assertEquals(0, offsets[1]);
+                    assertEquals(offsets.length == 2 ? 2 : 10, offsets.length);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RowRingTest {
+
+    private static final int ROWS = 10;
+    private static final int COLUMNS = 6;
+
+    //Cleared rows nearer the bottom, so the rows below them move up and the head steps back
+    @Test
+    void removeRowsNearTheBottomCompactsUp() {
+        assertRemoves(new int[]{6, 9});
+        assertRemoves(new int[]{9});
+        assertRemoves(new int[]{5, 6, 7, 8});
+    }
+
+    //Cleared rows nearer the top, so the rows above them move down
+    @Test
+    void removeRowsNearTheTopCompactsDown() {
+        assertRemoves(new int[]{0, 3});
+        assertRemoves(new int[]{0});
+        assertRemoves(new int[]{1, 2, 3, 4});
+    }
+
+    //Random fills, clears and rows pushed in from the bottom, checked against a plain int[][] after every change,
+    //so both branches also run with the head anywhere in the ring
+    @Test
+    void matchesAPlainMatrixAfterAnyMixOfChanges() {
+        Random random = new Random(21);
+        RowRing ring = new RowRing(ROWS, COLUMNS);
+        int[][] expected = new int[ROWS][COLUMNS];
+        int[] cleared = new int[ROWS];
+        for (int step = 0; step < 50_000; step++) {
+            int action = random.nextInt(10);
+            if (action < 7) {
+                int row = random.nextInt(ROWS);
+                int column = random.nextInt(COLUMNS);
+                int value = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(8);
+                ring.set(row, column, value);
+                expected[row][column] = value;
+            } else if (action < 9) {
+                int count = 0;
+                for (int row = 0; row < ROWS; row++) {
+                    if (ring.isFull(row)) {
+                        cleared[count++] = row;
+                    }
+                }
+                ring.removeRows(cleared, count);
+                expected = removeRows(expected, cleared, count);
+            } else {
+                ring.pushBottom();
+                int[][] pushed = new int[ROWS][];
+                System.arraycopy(expected, 1, pushed, 0, ROWS - 1);
+                pushed[ROWS - 1] = new int[COLUMNS];
+                expected = pushed;
+            }
+            assertMatches(expected, ring);
+        }
+    }
+
+    //Fills the cleared rows and a pattern unique to each row in the others, then checks the kept rows moved as the
+    //same arrays and the freed rows came back empty at the top
+    private static void assertRemoves(int[] cleared) {
+        RowRing ring = new RowRing(ROWS, COLUMNS);
+        int next = 0;
+        for (int row = 0; row < ROWS; row++) {
+            if (next < cleared.length && cleared[next] == row) {
+                for (int column = 0; column < COLUMNS; column++) {
+                    ring.set(row, column, 1);
+                }
+                next++;
+            } else {
+                ring.set(row, row % COLUMNS, 1 + row % 8);
+            }
+        }
+        int[][] before = ring.view().clone();
+        int[][] expected = removeRows(copy(ring.view()), cleared, cleared.length);
+        ring.removeRows(cleared, cleared.length);
+
+        assertMatches(expected, ring);
+        int[][] view = ring.view();
+        int kept = cleared.length;
+        next = 0;
+        for (int row = 0; row < ROWS; row++) {
+            if (next < cleared.length && cleared[next] == row) {
+                next++;
+            } else {
+                assertSame(before[row], view[kept++]);
+            }
+        }
+    }
+
+    private static int[][] removeRows(int[][] matrix, int[] cleared, int count) {
+        List<int[]> kept = new ArrayList<>();
+        int next = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            if (next < count && cleared[next] == row) {
+                next++;
+            } else {
+                kept.add(matrix[row]);
+            }
+        }
+        int[][] result = new int[matrix.length][];
+        for (int i = 0; i < count; i++) {
+            result[i] = new int[COLUMNS];
+        }
+        for (int i = 0; i < kept.size(); i++) {
+            result[count + i] = kept.get(i);
+        }
+        return result;
+    }
+
+    private static void assertMatches(int[][] expected, RowRing ring) {
+        assertArrayEquals(expected, ring.view());
+        for (int row = 0; row < ROWS; row++) {
+            int filled = 0;
+            for (int column = 0; column < COLUMNS; column++) {
+                assertEquals(expected[row][column], ring.get(row, column));
+                if (expected[row][column] != 0) {
+                    filled++;
+                }
+            }
+            assertEquals(filled == COLUMNS, ring.isFull(row), "row " + row);
+            assertEquals(filled == 0, ring.isEmpty(row), "row " + row);
+        }
+    }
+
+    private static int[][] copy(int[][] matrix) {
+        int[][] copy = new int[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+}
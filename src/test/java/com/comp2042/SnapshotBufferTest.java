@@ -0,0 +1,72 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotBufferTest {
+
+    private static final int SNAPSHOTS = 200_000;
+
+    @Test
+    void swapReturnsTheNewestSnapshotOnce() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        assertNull(buffer.swap());
+        assertNull(buffer.getFront());
+
+        GameSnapshot first = snapshot(1);
+        GameSnapshot second = snapshot(2);
+        buffer.publish(first);
+        buffer.publish(second);
+        assertSame(second, buffer.swap());
+        assertSame(second, buffer.getFront());
+
+        //Nothing new, so the front stays
+        assertNull(buffer.swap());
+        assertSame(second, buffer.getFront());
+
+        buffer.publish(first);
+        assertSame(first, buffer.swap());
+        assertSame(first, buffer.getFront());
+    }
+
+    //Snapshots may be skipped but never seen twice or out of order, and the last one published is always drawn
+    @Test
+    void swapOnAnotherThreadSeesNewerSnapshotsOnly() throws InterruptedException {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        Thread logic = new Thread(() -> {
+            for (int i = 1; i <= SNAPSHOTS; i++) {
+                buffer.publish(snapshot(i));
+            }
+        }, "snapshot-publisher");
+        logic.start();
+
+        long last = 0;
+        int swaps = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (last < SNAPSHOTS && System.nanoTime() < deadline) {
+            GameSnapshot snapshot = buffer.swap();
+            if (snapshot == null) {
+                Thread.yield();
+                continue;
+            }
+            assertTrue(snapshot.getTickCount() > last, snapshot.getTickCount() + " after " + last);
+            assertSame(snapshot, buffer.getFront());
+            last = snapshot.getTickCount();
+            swaps++;
+        }
+        logic.join();
+        assertEquals(SNAPSHOTS, last);
+        assertNull(buffer.swap());
+        assertTrue(swaps > 0);
+    }
+
+    private static GameSnapshot snapshot(long tick) {
+        return new GameSnapshot(new int[0][0], null, 0, 0, 0, tick, false, 0);
+    }
+}
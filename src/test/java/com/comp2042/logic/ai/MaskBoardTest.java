@@ -0,0 +1,46 @@
+package com.comp2042.logic.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MaskBoardTest {
+
+    //Heights 1, 3, 0, 1 with two holes under column 1: height 5, bumpiness 2 + 3 + 1 = 6
+    private static final long[] ROWS = {0b0000, 0b0010, 0b0000, 0b1001};
+    private static final HeuristicWeights WEIGHTS = new HeuristicWeights(1, 10, 100, 1000);
+    private static final double EXPECTED = 5 + 10 * 2 + 100 * 2 + 1000 * 6;
+
+    @Test
+    void evaluateScoresHeightLinesHolesAndBumpiness() {
+        assertEquals(EXPECTED, MaskBoard.evaluate(ROWS, 4, 2, WEIGHTS, new int[4]));
+    }
+
+    @Test
+    void evaluateIgnoresWhatTheScratchHeldBefore() {
+        int[] heights = new int[6];
+        Arrays.fill(heights, 9);
+        assertEquals(EXPECTED, MaskBoard.evaluate(ROWS, 4, 2, WEIGHTS, heights));
+        assertEquals(EXPECTED, MaskBoard.evaluate(ROWS, 4, 2, WEIGHTS, heights));
+    }
+
+    @Test
+    void evaluateDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int[] heights = new int[4];
+        double sum = 0;
+        for (int i = 0; i < 500_000; i++) {
+            sum += MaskBoard.evaluate(ROWS, 4, i & 3, WEIGHTS, heights);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            sum += MaskBoard.evaluate(ROWS, 4, i & 3, WEIGHTS, heights);
+        }
+        assertEquals(0, threads.getCurrentThreadAllocatedBytes() - before);
+        //Lines cycle through 0 to 3, 1.5 per call instead of the 2 in EXPECTED
+        assertEquals(600_000 * (EXPECTED - 10 * 0.5), sum, 1e-3);
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.BrickMasks;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Bricks;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveGeneratorTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    //Some shapes have empty top rows, so they fit above row 0, but a start there has no state to search from
+    @Test
+    void startAboveTheBoardIsRefused() {
+        for (RotationSystem system : RotationSystem.values()) {
+            MoveGenerator generator = new MoveGenerator(ROWS, COLUMNS, system);
+            long[] board = new long[ROWS];
+            for (Brick brick : Bricks.all()) {
+                BrickMasks masks = BrickMasks.of(brick);
+                for (int y = -3; y < 0; y++) {
+                    assertEquals(0, generator.generate(board, masks, 0, 3, y));
+                }
+                assertTrue(generator.generate(board, masks, 0, 3, 0) > 0);
+            }
+        }
+    }
+}
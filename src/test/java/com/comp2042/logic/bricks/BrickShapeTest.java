@@ -0,0 +1,98 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BrickShapeTest {
+
+    private static final int[][][] I_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {1, 1, 1, 1},
+                {0, 0, 0, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 1, 0, 0},
+                {0, 1, 0, 0},
+                {0, 1, 0, 0},
+                {0, 1, 0, 0}
+            }
+    };
+
+    @Test
+    void iBrickShapesHoldTheExpectedCells() {
+        Brick brick = Bricks.get(0);
+        assertEquals(I_SHAPES.length, brick.getRotationCount());
+        for (int rotation = 0; rotation < I_SHAPES.length; rotation++) {
+            assertCells(I_SHAPES[rotation], brick.getShape(rotation));
+        }
+    }
+
+    @Test
+    void shapesMatchTheShapeMatrix() {
+        for (Brick brick : Bricks.all()) {
+            List<int[][]> matrices = brick.getShapeMatrix();
+            assertEquals(matrices.size(), brick.getRotationCount());
+            for (int rotation = 0; rotation < brick.getRotationCount(); rotation++) {
+                assertCells(matrices.get(rotation), brick.getShape(rotation));
+            }
+        }
+    }
+
+    //Every matrix handed out is a copy, so overwriting all of them leaves the shared shapes as they were
+    @Test
+    void overwritingHandedOutMatricesLeavesTheSharedShapesAlone() {
+        for (Brick brick : Bricks.all()) {
+            List<int[][]> expected = brick.getShapeMatrix();
+            for (int rotation = 0; rotation < brick.getRotationCount(); rotation++) {
+                BrickShape shape = brick.getShape(rotation);
+                int[][] copy = shape.toMatrix();
+                assertNotSame(copy, shape.toMatrix());
+                fill(copy, 9);
+                fill(brick.getShapeMatrix().get(rotation), 9);
+                assertCells(expected.get(rotation), shape);
+            }
+        }
+    }
+
+    //Only getters and toMatrix are public and the fields cannot be reassigned, so nothing outside can write a cell
+    @Test
+    void shapeFieldsAreFinalAndPrivate() {
+        for (Field field : BrickShape.class.getDeclaredFields()) {
+            assertTrue(Modifier.isPrivate(field.getModifiers()) && Modifier.isFinal(field.getModifiers()),
+                    field.getName());
+        }
+        for (Method method : BrickShape.class.getDeclaredMethods()) {
+            assertTrue(!Modifier.isPublic(method.getModifiers()) || method.getName().startsWith("get")
+                    || method.getName().equals("toMatrix"), method.getName());
+        }
+    }
+
+    private static void assertCells(int[][] expected, BrickShape shape) {
+        assertEquals(expected.length, shape.getHeight());
+        assertEquals(expected[0].length, shape.getWidth());
+        for (int i = 0; i < expected.length; i++) {
+            for (int j = 0; j < expected[i].length; j++) {
+                assertEquals(expected[i][j], shape.getCell(i, j));
+            }
+        }
+        assertArrayEquals(expected, shape.toMatrix());
+    }
+
+    private static void fill(int[][] matrix, int value) {
+        for (int[] row : matrix) {
+            Arrays.fill(row, value);
+        }
+    }
+}
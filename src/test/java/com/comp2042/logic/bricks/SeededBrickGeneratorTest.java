@@ -0,0 +1,35 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SeededBrickGeneratorTest {
+
+    @Test
+    void lookaheadThatDoesNotFitAByteIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SeededBrickGenerator(1, true, SeededBrickGenerator.MAX_LOOKAHEAD + 1));
+        assertThrows(IllegalArgumentException.class, () -> new SeededBrickGenerator(1, true, 0));
+    }
+
+    @Test
+    void largestLookaheadSurvivesASave() {
+        int lookahead = SeededBrickGenerator.MAX_LOOKAHEAD;
+        SeededBrickGenerator generator = new SeededBrickGenerator(7, true, lookahead);
+        for (int i = 0; i < lookahead + 3; i++) {
+            generator.getBrick();
+        }
+        ByteBuffer state = ByteBuffer.allocate(generator.getStateSize());
+        generator.writeState(state);
+        SeededBrickGenerator restored = new SeededBrickGenerator(1, true, lookahead);
+        restored.checkState(state, 0);
+        restored.readState(state.flip());
+        for (int i = 0; i < 2 * lookahead; i++) {
+            assertSame(generator.getBrick(), restored.getBrick());
+        }
+    }
+}
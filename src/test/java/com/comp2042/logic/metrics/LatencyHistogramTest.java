@@ -0,0 +1,36 @@
+package com.comp2042.logic.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+
+    //Values split over several histograms and added together report like one histogram holding them all
+    @Test
+    void addedHistogramsReportLikeOne() {
+        Random random = new Random(3);
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram[] parts = new LatencyHistogram[4];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long value = (long) Math.exp(random.nextDouble() * 20);
+            all.record(value);
+            parts[i % parts.length].record(value);
+        }
+        LatencyHistogram merged = new LatencyHistogram();
+        for (LatencyHistogram part : parts) {
+            merged.add(part);
+        }
+        assertEquals(all.getCount(), merged.getCount());
+        assertEquals(all.getMean(), merged.getMean());
+        assertEquals(all.getMax(), merged.getMax());
+        for (double percentile : new double[]{0, 1, 50, 90, 99, 99.9, 100}) {
+            assertEquals(all.getPercentile(percentile), merged.getPercentile(percentile), "p" + percentile);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayVerifierTest {
+
+    private static final EventType[] MOVES = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.HARD_DROP};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordedGamesVerify() throws IOException {
+        Path archive = directory.resolve("replays.bin");
+        try (ReplayWriter writer = ReplayWriter.append(archive)) {
+            record(writer, 1, Long.MAX_VALUE);
+            record(writer, 2, Long.MAX_VALUE);
+        }
+        List<ReplayResult> results = new ReplayVerifier().verifyArchive(archive);
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isValid(), results.get(0).toString());
+        assertTrue(results.get(1).isValid(), results.get(1).toString());
+    }
+
+    //A writer killed mid-game leaves a frame with no length, the replays appended after it must still be verified
+    @Test
+    void unfinishedReplayIsReportedAndLaterReplaysStillVerify() throws IOException {
+        Path archive = directory.resolve("replays.bin");
+        try (ReplayWriter writer = ReplayWriter.append(archive)) {
+            record(writer, 1, Long.MAX_VALUE);
+            record(writer, 2, 10);
+        }
+        try (ReplayWriter writer = ReplayWriter.append(archive)) {
+            record(writer, 3, Long.MAX_VALUE);
+        }
+        List<ReplayResult> results = new ReplayVerifier().verifyArchive(archive);
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isValid(), results.get(0).toString());
+        assertFalse(results.get(1).isValid());
+        assertEquals("unfinished replay", results.get(1).getMessage());
+        assertTrue(results.get(2).isValid(), results.get(2).toString());
+    }
+
+    //Plays until game over, or stops recording without ending the replay after maxSteps
+    private static void record(ReplayWriter writer, long seed, long maxSteps) {
+        SeededBrickGenerator generator = new SeededBrickGenerator(seed);
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(25, 10, generator, RotationSystem.CLASSIC));
+        writer.beginGame(generator, 25, 10, false, RotationSystem.CLASSIC);
+        for (long step = 0; step < maxSteps && !engine.isGameOver(); step++) {
+            EventType type = MOVES[(int) ((step * 7 + seed) % MOVES.length)];
+            engine.step(type);
+            writer.recordStep(type, EventSource.USER, engine);
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,159 @@
+package com.comp2042.logic.save;
+
+import com.comp2042.BoardType;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.RotationSystem;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SaveFormatTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int LOOKAHEAD = 5;
+    //Generator state, then 25 rows of one long each, then the brick index, rotation, x and y
+    private static final int BRICK_OFFSET = SaveFormat.HEADER_SIZE + SeededBrickGenerator.stateSize(LOOKAHEAD)
+            + ROWS * Long.BYTES;
+    private static final EventType[] MOVES = EventType.values();
+
+    @Test
+    void savedGameLoadsIntoEveryBoardType() {
+        for (BoardType from : BoardType.values()) {
+            byte[] save = save(game(from, 3, 300));
+            for (BoardType to : BoardType.values()) {
+                GameEngine target = game(to, 9, 40);
+                SaveFormat.read(ByteBuffer.wrap(save), target);
+                assertArrayEquals(save, save(target), from + " into " + to);
+            }
+        }
+    }
+
+    @Test
+    void corruptBrickIsRefusedBeforeAnythingChanges() {
+        byte[] save = save(game(BoardType.SIMPLE, 3, 300));
+        assertRefused(save, BRICK_OFFSET, 7);
+        assertRefused(save, BRICK_OFFSET, -1);
+        assertRefused(save, BRICK_OFFSET + 1, 4);
+        assertRefused(save, BRICK_OFFSET + 1, -3);
+        assertRefused(save, BRICK_OFFSET + 2, 40);
+        assertRefused(save, BRICK_OFFSET + 2, -20);
+        assertRefused(save, BRICK_OFFSET + 3, 100);
+        assertRefused(save, BRICK_OFFSET + 3, -10);
+    }
+
+    @Test
+    void corruptCellsGeneratorAndFlagsAreRefused() {
+        byte[] save = save(game(BoardType.SIMPLE, 3, 300));
+        //Rows are big-endian longs, so the top row starts with the cells of columns 15 and 14, past the board
+        assertRefused(save, BRICK_OFFSET - ROWS * Long.BYTES, 0x70);
+        //Color 9 in the first column of the bottom row
+        assertRefused(save, BRICK_OFFSET - 1, 0x09);
+        int generator = SaveFormat.HEADER_SIZE;
+        assertRefused(save, generator + 2 * Long.BYTES + 1, LOOKAHEAD + 1);
+        assertRefused(save, generator + 2 * Long.BYTES + 2, LOOKAHEAD);
+        assertRefused(save, generator + 2 * Long.BYTES + 3, 8);
+        assertRefused(save, generator + 2 * Long.BYTES + 4, 7);
+        //Game over flag
+        assertRefused(save, save.length - 1, 2);
+    }
+
+    //Whatever a single corrupt byte does, the load either succeeds or throws IllegalArgumentException with the
+    //game untouched, on every board type
+    @Test
+    void everySingleByteCorruptionLoadsOrIsRefusedCleanly() {
+        for (BoardType type : BoardType.values()) {
+            byte[] save = save(game(type, 5, 400));
+            GameEngine target = game(type, 11, 60);
+            for (int i = 0; i < save.length; i++) {
+                for (int value : new int[]{0, 1, 7, 0x55, 0x7f, 0x80, 0xff, save[i] + 1}) {
+                    byte[] corrupt = save.clone();
+                    corrupt[i] = (byte) value;
+                    byte[] before = save(target);
+                    try {
+                        SaveFormat.read(ByteBuffer.wrap(corrupt), target);
+                    } catch (IllegalArgumentException e) {
+                        assertArrayEquals(before, save(target), type + " byte " + i + " = " + value);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void truncatedSaveIsRefused() {
+        byte[] save = save(game(BoardType.BITBOARD, 3, 300));
+        GameEngine target = game(BoardType.BITBOARD, 9, 40);
+        byte[] before = save(target);
+        for (int length = 0; length < save.length; length++) {
+            ByteBuffer truncated = ByteBuffer.wrap(save, 0, length);
+            assertThrows(IllegalArgumentException.class, () -> SaveFormat.read(truncated, target));
+            assertArrayEquals(before, save(target));
+        }
+    }
+
+    @Test
+    void randomGeneratorWithoutQueuedBricksIsRefused() {
+        GameEngine game = new GameEngine(BoardType.SIMPLE.create(ROWS, COLUMNS, new RandomBrickGenerator()));
+        byte[] save = save(game);
+        save[SaveFormat.HEADER_SIZE] = 0;
+        assertThrows(IllegalArgumentException.class, () -> SaveFormat.read(ByteBuffer.wrap(save), game));
+    }
+
+    @Test
+    void corruptSlotLeavesTheGameAsItWas(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("game.sav");
+        GameEngine game = game(BoardType.RING, 3, 300);
+        try (SaveSlot slot = SaveSlot.open(file, game)) {
+            slot.save(game);
+            slot.force();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[BRICK_OFFSET + 1] = 9;
+        Files.write(file, bytes);
+
+        GameEngine target = game(BoardType.RING, 9, 40);
+        byte[] before = save(target);
+        try (SaveSlot slot = SaveSlot.open(file, target)) {
+            assertThrows(IllegalArgumentException.class, () -> slot.load(target));
+        }
+        assertArrayEquals(before, save(target));
+    }
+
+    private static void assertRefused(byte[] save, int index, int value) {
+        byte[] corrupt = save.clone();
+        corrupt[index] = (byte) value;
+        GameEngine target = game(BoardType.COMPACT, 9, 40);
+        byte[] before = save(target);
+        assertThrows(IllegalArgumentException.class, () -> SaveFormat.read(ByteBuffer.wrap(corrupt), target),
+                "byte " + index + " = " + value);
+        assertArrayEquals(before, save(target));
+    }
+
+    //A seeded SRS game after the given number of moves and ticks
+    private static GameEngine game(BoardType type, long seed, int moves) {
+        GameEngine engine = new GameEngine(type.create(ROWS, COLUMNS, new SeededBrickGenerator(seed),
+                RotationSystem.SRS));
+        for (int i = 0; i < moves && !engine.isGameOver(); i++) {
+            engine.step(MOVES[(int) ((seed * 31 + i * 7 + i / 3) % MOVES.length)]);
+            engine.tick();
+        }
+        return engine;
+    }
+
+    private static byte[] save(GameEngine engine) {
+        ByteBuffer buffer = ByteBuffer.allocate(SaveFormat.size(engine));
+        SaveFormat.write(engine, buffer);
+        return buffer.array();
+    }
+}
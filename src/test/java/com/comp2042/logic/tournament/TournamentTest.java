@@ -0,0 +1,42 @@
+package com.comp2042.logic.tournament;
+
+import com.comp2042.BoardType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TournamentTest {
+
+    private static final int SEEDS = 8;
+    private static final long MAX_PIECES = 100;
+
+    //Every game only depends on its strategy and seed, however many workers play them. A worker that stole another
+    //game while its planner waited on the pool would reset the game it was playing.
+    @Test
+    void parallelTournamentMatchesSequentialOne() {
+        assertEquals(play(1), play(4));
+    }
+
+    private static Map<String, String> play(int threads) {
+        List<Strategy> strategies = List.of(Strategy.parse("e:EXPECTIMAX:2"), Strategy.parse("g:GREEDY"));
+        Map<String, String> results = new TreeMap<>();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            new Tournament(strategies, 1, SEEDS, MAX_PIECES, BoardType.BITBOARD, 25, 10, pool).run(result -> {
+                synchronized (results) {
+                    results.put(result.getStrategy() + result.getSeed(),
+                            result.getLines() + "/" + result.getPieces() + "/" + result.getScore());
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(strategies.size() * SEEDS, results.size());
+        return results;
+    }
+}
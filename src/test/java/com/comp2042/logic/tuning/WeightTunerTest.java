@@ -0,0 +1,37 @@
+package com.comp2042.logic.tuning;
+
+import com.comp2042.BoardType;
+import com.comp2042.logic.ai.HeuristicWeights;
+import com.comp2042.logic.tournament.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class WeightTunerTest {
+
+    //A generation only depends on the base seed and the state it starts from, whatever the workers steal
+    @Test
+    void generationReplaysTheSameFitnessOnSeveralThreads() {
+        double[] first = runGeneration();
+        double[] second = runGeneration();
+        assertArrayEquals(first, second);
+    }
+
+    private static double[] runGeneration() {
+        double[] mean = HeuristicWeights.DEFAULT.toArray();
+        double[] sigma = new double[mean.length];
+        Arrays.fill(sigma, 0.2);
+        TunerState state = new TunerState(mean, sigma);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new WeightTuner(Strategy.parse("deep:EXPECTIMAX:2"), 8, 2, 2, 60, 7, 0.1, BoardType.BITBOARD, 25, 10, pool)
+                    .runGeneration(state);
+        } finally {
+            pool.shutdown();
+        }
+        return state.getFitness();
+    }
+}
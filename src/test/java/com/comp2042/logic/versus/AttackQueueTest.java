@@ -0,0 +1,106 @@
+package com.comp2042.logic.versus;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AttackQueueTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int ATTACKS_PER_PRODUCER = 100_000;
+    private static final int STALL_EVERY = 20_000;
+
+    @Test
+    void rejectsCapacityThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new AttackQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new AttackQueue(6));
+    }
+
+    @Test
+    void fullQueueRefusesAttacksUntilDrained() {
+        AttackQueue queue = new AttackQueue(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i + 1, i, 10L * i));
+        }
+        assertFalse(queue.offer(9, 9, 90));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(4, queue.drain((lines, holeColumn, time) -> drained.add(lines + "/" + holeColumn + "/" + time)));
+        assertEquals(List.of("1/0/0", "2/1/10", "3/2/20", "4/3/30"), drained);
+
+        assertTrue(queue.offer(5, 4, 40));
+        drained.clear();
+        assertEquals(1, queue.drain((lines, holeColumn, time) -> drained.add(lines + "/" + holeColumn + "/" + time)));
+        assertEquals(List.of("5/4/40"), drained);
+        assertEquals(0, queue.drain((lines, holeColumn, time) -> drained.add("unexpected")));
+    }
+
+    //Opponents on their own threads retry refused attacks. The owner must receive every attack exactly once, each
+    //opponent's attacks in the order it sent them and with the fields it sent together.
+    @Test
+    void attacksFromManyThreadsArriveOnceAndInOrderPerSender() throws InterruptedException {
+        AttackQueue queue = new AttackQueue(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger refused = new AtomicInteger();
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < ATTACKS_PER_PRODUCER; i++) {
+                    while (!queue.offer(i, producer, time(producer, i))) {
+                        refused.incrementAndGet();
+                        Thread.yield();
+                    }
+                }
+            }, "attack-producer-" + p);
+            thread.start();
+            producers.add(thread);
+        }
+
+        int[] next = new int[PRODUCERS];
+        int[] received = new int[1];
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (received[0] < PRODUCERS * ATTACKS_PER_PRODUCER && System.nanoTime() < deadline) {
+            if (received[0] % STALL_EVERY == 0) {
+                Thread.sleep(1);
+            }
+            if (queue.drain((lines, holeColumn, time) -> {
+                assertEquals(next[holeColumn], lines, "attack from " + holeColumn);
+                assertEquals(time(holeColumn, lines), time);
+                next[holeColumn]++;
+                received[0]++;
+            }) == 0) {
+                Thread.yield();
+            }
+        }
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        assertEquals(PRODUCERS * ATTACKS_PER_PRODUCER, received[0]);
+        for (int p = 0; p < PRODUCERS; p++) {
+            assertEquals(ATTACKS_PER_PRODUCER, next[p]);
+        }
+        assertEquals(0, queue.drain((lines, holeColumn, time) -> received[0]++));
+        assertTrue(refused.get() > 0);
+    }
+
+    private static long time(int producer, int attack) {
+        return (long) producer << 32 | attack;
+    }
+}